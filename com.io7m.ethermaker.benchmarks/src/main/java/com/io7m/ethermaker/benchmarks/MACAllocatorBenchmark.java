@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.benchmarks;
+
+import com.io7m.ethermaker.core.MACAllocator;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPermutation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for allocating unique addresses from a single shared
+ * allocator on increasing numbers of threads. A block size of {@code 1}
+ * performs one atomic update on the shared cursor per address, and so
+ * shows the cost of contention that larger blocks avoid.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MACAllocatorBenchmark
+{
+  /**
+   * The number of addresses reserved by each thread at a time.
+   */
+
+  @Param({
+    "1",
+    "64",
+    "4096"
+  })
+  public int blockSize;
+
+  private MACAllocator allocator;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MACAllocatorBenchmark()
+  {
+
+  }
+
+  /**
+   * Create the shared allocator.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.allocator =
+      MACAllocator.create(
+        MACPermutation.create(MACMasks.unconstrained(), 0x5eedL),
+        this.blockSize,
+        0L
+      );
+  }
+
+  /**
+   * @return An allocated address
+   */
+
+  @Benchmark
+  @Threads(1)
+  public long threads01()
+  {
+    return this.allocator.allocate();
+  }
+
+  /**
+   * @return An allocated address
+   */
+
+  @Benchmark
+  @Threads(4)
+  public long threads04()
+  {
+    return this.allocator.allocate();
+  }
+
+  /**
+   * @return An allocated address
+   */
+
+  @Benchmark
+  @Threads(16)
+  public long threads16()
+  {
+    return this.allocator.allocate();
+  }
+
+  /**
+   * @return An allocated address
+   */
+
+  @Benchmark
+  @Threads(64)
+  public long threads64()
+  {
+    return this.allocator.allocate();
+  }
+}
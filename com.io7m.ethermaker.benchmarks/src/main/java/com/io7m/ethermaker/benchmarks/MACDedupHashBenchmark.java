@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.benchmarks;
+
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACAddressSetType;
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACMask;
+import com.io7m.ethermaker.core.MACMasks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for generating a number of distinct addresses using
+ * an open-addressing hash set, as used when generated addresses
+ * may vary outside of the NIC-specific octets. Each invocation generates
+ * batches of addresses until the set contains {@code size} addresses, in
+ * the same manner as the "generate" command. Addresses are drawn from the
+ * unconstrained mask, so every bit of the address varies.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MACDedupHashBenchmark
+{
+  private static final int BATCH_SIZE = 4096;
+
+  /**
+   * The number of distinct addresses.
+   */
+
+  @Param({
+    "1000",
+    "100000",
+    "10000000",
+    "100000000"
+  })
+  public int size;
+
+  private MACMask mask;
+  private SplittableRandom random;
+  private long[] batch;
+  private MACAddressSetType set;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MACDedupHashBenchmark()
+  {
+
+  }
+
+  /**
+   * Create an empty set.
+   */
+
+  @Setup(Level.Iteration)
+  public void setup()
+  {
+    this.mask = MACMasks.unconstrained();
+    this.random = new SplittableRandom(0x5eedL);
+    this.batch = new long[BATCH_SIZE];
+    this.set = MACAddressHashSet.create(this.size);
+  }
+
+  /**
+   * @return The set of addresses
+   */
+
+  @Benchmark
+  public MACAddressSetType fill()
+  {
+    final var numbers = this.set;
+    while (numbers.size() != this.size) {
+      final var required =
+        (int) Math.min(BATCH_SIZE, this.size - numbers.size());
+
+      MACAddresses.generateInto(this.mask, this.random, this.batch, 0, required);
+      for (int index = 0; index < required; ++index) {
+        numbers.add(this.batch[index]);
+      }
+    }
+    return numbers;
+  }
+}
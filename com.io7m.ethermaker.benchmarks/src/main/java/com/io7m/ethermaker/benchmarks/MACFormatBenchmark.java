@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.benchmarks;
+
+import com.io7m.ethermaker.core.MACAddress;
+import com.io7m.ethermaker.core.MACAddressWriter;
+import com.io7m.ethermaker.core.MACFormatting;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACPacked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for formatting addresses as text.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MACFormatBenchmark
+{
+  private static final int COUNT = 4096;
+
+  private long[] packed;
+  private MACAddress[] addresses;
+  private byte[] output;
+  private MACAddressWriter writer;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MACFormatBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the addresses to be formatted.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var rng = new SplittableRandom(0x5eedL);
+    this.packed = new long[COUNT];
+    this.addresses = new MACAddress[COUNT];
+    for (int offset = 0; offset < COUNT; ++offset) {
+      this.packed[offset] = rng.nextLong() & 0xffff_ffff_ffffL;
+      this.addresses[offset] = MACPacked.unpack(this.packed[offset]);
+    }
+    this.output = new byte[MACFormatting.ADDRESS_LENGTH];
+    this.writer = MACAddressWriter.create(new DiscardChannel(), MACNotation.COLON);
+  }
+
+  private int next()
+  {
+    this.index = (this.index + 1) & (COUNT - 1);
+    return this.index;
+  }
+
+  /**
+   * @return A formatted address
+   */
+
+  @Benchmark
+  public String addressToString()
+  {
+    return this.addresses[this.next()].toString();
+  }
+
+  /**
+   * @return A formatted address
+   */
+
+  @Benchmark
+  public String format()
+  {
+    return MACFormatting.format(this.packed[this.next()]);
+  }
+
+  /**
+   * @return The output array
+   */
+
+  @Benchmark
+  public byte[] formatInto()
+  {
+    MACFormatting.formatInto(this.packed[this.next()], this.output, 0);
+    return this.output;
+  }
+
+  /**
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public void write()
+    throws IOException
+  {
+    this.writer.writeAll(this.packed, 0, COUNT);
+    this.writer.flush();
+  }
+
+  private static final class DiscardChannel implements WritableByteChannel
+  {
+    DiscardChannel()
+    {
+
+    }
+
+    @Override
+    public int write(
+      final ByteBuffer source)
+    {
+      final var size = source.remaining();
+      source.position(source.limit());
+      return size;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return true;
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.benchmarks;
+
+import com.io7m.ethermaker.core.MACAddress;
+import com.io7m.ethermaker.core.MACAddressPolicy;
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACEntropyPool;
+import com.io7m.ethermaker.core.MACMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Benchmarks for generating random addresses from each of the random
+ * sources offered by the command-line tool.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MACGenerateBenchmark
+{
+  private static final int COUNT = 4096;
+
+  /**
+   * The random source.
+   */
+
+  @Param({
+    "STRONG",
+    "SECURE",
+    "SECURE_POOLED",
+    "L64X128MIXRANDOM",
+    "SPLITTABLE"
+  })
+  public String source;
+
+  private RandomGenerator random;
+  private MACMask mask;
+  private long[] batch;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MACGenerateBenchmark()
+  {
+
+  }
+
+  /**
+   * Create the random source.
+   *
+   * @throws NoSuchAlgorithmException If the source is unavailable
+   */
+
+  @Setup
+  public void setup()
+    throws NoSuchAlgorithmException
+  {
+    this.random = switch (this.source) {
+      case "STRONG" -> SecureRandom.getInstanceStrong();
+      case "SECURE" -> new SecureRandom();
+      case "SECURE_POOLED" -> MACEntropyPool.create(new SecureRandom());
+      case "L64X128MIXRANDOM" -> RandomGenerator.of("L64X128MixRandom");
+      case "SPLITTABLE" -> new SplittableRandom(0x5eedL);
+      default -> throw new IllegalArgumentException(this.source);
+    };
+
+    this.mask =
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .build()
+        .toMask();
+
+    this.batch = new long[COUNT];
+  }
+
+  /**
+   * Release the random source.
+   */
+
+  @TearDown
+  public void tearDown()
+  {
+    if (this.random instanceof final MACEntropyPool pool) {
+      pool.close();
+    }
+  }
+
+  /**
+   * @return A generated address
+   */
+
+  @Benchmark
+  public MACAddress generate()
+  {
+    return MACAddresses.generate(Optional.empty(), this.random);
+  }
+
+  /**
+   * @return A generated packed address
+   */
+
+  @Benchmark
+  public long generatePacked()
+  {
+    return MACAddresses.generatePacked(this.mask, this.random);
+  }
+
+  /**
+   * @return The generated packed addresses
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public long[] generateInto()
+  {
+    MACAddresses.generateInto(this.mask, this.random, this.batch, 0, COUNT);
+    return this.batch;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.benchmarks;
+
+import com.io7m.ethermaker.core.MACAddress;
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACFormatting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing single addresses and newline-separated batches.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MACParseBenchmark
+{
+  private static final int COUNT = 4096;
+
+  private String[] texts;
+  private ByteBuffer bulk;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MACParseBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the addresses to be parsed.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var rng = new SplittableRandom(0x5eedL);
+    final var text = new StringBuilder(COUNT * 18);
+    this.texts = new String[COUNT];
+    for (int offset = 0; offset < COUNT; ++offset) {
+      final var address = rng.nextLong() & 0xffff_ffff_ffffL;
+      this.texts[offset] = MACFormatting.format(address);
+      text.append(this.texts[offset]);
+      text.append('\n');
+    }
+    this.bulk = ByteBuffer.wrap(
+      text.toString().getBytes(StandardCharsets.US_ASCII)
+    );
+  }
+
+  private String next()
+  {
+    this.index = (this.index + 1) & (COUNT - 1);
+    return this.texts[this.index];
+  }
+
+  /**
+   * @return A parsed address
+   */
+
+  @Benchmark
+  public MACAddress parse()
+  {
+    return MACAddresses.parse(this.next());
+  }
+
+  /**
+   * @return A parsed packed address
+   */
+
+  @Benchmark
+  public long parsePacked()
+  {
+    return MACAddresses.parsePacked(this.next());
+  }
+
+  /**
+   * @return A parsed packed address or a parse status
+   */
+
+  @Benchmark
+  public long tryParsePacked()
+  {
+    return MACAddresses.tryParsePacked(this.next());
+  }
+
+  /**
+   * @param blackhole The blackhole receiving addresses
+   *
+   * @return The number of invalid lines
+   */
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public long parseBulk(
+    final Blackhole blackhole)
+  {
+    this.bulk.rewind();
+    return MACAddresses.parseInto(this.bulk, blackhole::consume);
+  }
+}
@@ -23,6 +23,7 @@ import com.io7m.claypot.core.Claypot;
 import com.io7m.claypot.core.ClaypotType;
 import com.io7m.ethermaker.cmdline.internal.EMCommandDescribe;
 import com.io7m.ethermaker.cmdline.internal.EMCommandGenerate;
+import com.io7m.ethermaker.cmdline.internal.EMCommandOUICompile;
 import com.io7m.ethermaker.cmdline.internal.EMCommandVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,7 +61,8 @@ public final class Main implements Runnable
       List.of(
         EMCommandVersion::new,
         EMCommandGenerate::new,
-        EMCommandDescribe::new
+        EMCommandDescribe::new,
+        EMCommandOUICompile::new
       );
 
     final var configuration =
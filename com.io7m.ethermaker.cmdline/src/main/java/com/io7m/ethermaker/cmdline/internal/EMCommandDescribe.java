@@ -16,13 +16,25 @@
 
 package com.io7m.ethermaker.cmdline.internal;
 
+import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 import com.io7m.claypot.core.CLPAbstractCommand;
 import com.io7m.claypot.core.CLPCommandContextType;
+import com.io7m.ethermaker.core.MACAddressReader;
 import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACFormatting;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACPacked;
+import com.io7m.ethermaker.core.MACParseStatus;
+import com.io7m.ethermaker.core.MACRecordFormat;
+import com.io7m.ethermaker.core.MACRegistry;
 
 import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
 
 import static com.io7m.claypot.core.CLPCommandType.Status.SUCCESS;
 
@@ -33,6 +45,26 @@ import static com.io7m.claypot.core.CLPCommandType.Status.SUCCESS;
 @Parameters(commandDescription = "Describe MAC addresses")
 public final class EMCommandDescribe extends CLPAbstractCommand
 {
+  private static final int BATCH_SIZE = 4096;
+
+  @Parameter(
+    required = false,
+    names = "--notation",
+    description = "The notation used to write addresses")
+  private MACNotation notation = MACNotation.COLON;
+
+  @Parameter(
+    required = false,
+    names = "--format",
+    description = "The format in which addresses are read")
+  private MACRecordFormat format = MACRecordFormat.TEXT;
+
+  @Parameter(
+    required = false,
+    names = "--registry",
+    description = "A registry file produced by oui-compile, used instead of the embedded registry")
+  private Path registryFile;
+
   /**
    * Construct a command.
    *
@@ -55,34 +87,108 @@ public final class EMCommandDescribe extends CLPAbstractCommand
   @Override
   protected Status executeActual()
     throws Exception
+  {
+    final MACRegistry registry;
+    if (this.registryFile != null) {
+      registry = MACRegistry.open(this.registryFile);
+    } else {
+      registry = MACRegistry.builtin();
+    }
+
+    if (this.format == MACRecordFormat.TEXT) {
+      this.describeText(registry);
+    } else {
+      this.describeBinary(registry);
+    }
+    return SUCCESS;
+  }
+
+  private void describeBinary(
+    final MACRegistry registry)
+    throws IOException
+  {
+    /*
+     * The standard input channel is deliberately not closed.
+     */
+
+    final var stdin = new FileInputStream(FileDescriptor.in);
+    final var reader =
+      MACAddressReader.create(stdin.getChannel(), this.format);
+    final var output = new StringBuilder(128);
+    final var batch = new long[BATCH_SIZE];
+
+    while (true) {
+      final var count = reader.readInto(batch, 0, batch.length);
+      if (count < 0) {
+        break;
+      }
+      for (int offset = 0; offset < count; ++offset) {
+        this.describe(registry, output, batch[offset]);
+      }
+    }
+  }
+
+  private void describeText(
+    final MACRegistry registry)
+    throws IOException
   {
     final var reader = new BufferedReader(new InputStreamReader(System.in));
+    final var output = new StringBuilder(128);
 
     while (true) {
       final var line = reader.readLine();
       if (line == null) {
         break;
       }
-      final var text = line.trim();
-      if (text.isEmpty()) {
+      if (line.isBlank()) {
         continue;
       }
 
-      try {
-        final var address = MACAddresses.parse(text);
-        System.out.printf(
-          "Address: %s, Multicast: %s, Broadcast: %s, Local: %s%n",
-          address,
-          Boolean.valueOf(address.isMulticast()),
-          Boolean.valueOf(address.isBroadcast()),
-          Boolean.valueOf(address.isLocallyAdministered())
+      /*
+       * Invalid lines are expected to be common, so the non-throwing
+       * parser is used and the error message is only built for lines that
+       * actually fail.
+       */
+
+      final var address = MACAddresses.tryParsePacked(line);
+      if (MACParseStatus.isError(address)) {
+        this.logger().error(
+          "Failed to parse address: {}",
+          MACAddresses.parseErrorMessage(address, line.trim())
         );
-      } catch (final Exception e) {
-        this.logger().error("Failed to parse address: ", e);
+        continue;
       }
+      this.describe(registry, output, address);
     }
+  }
 
-    return SUCCESS;
+  private void describe(
+    final MACRegistry registry,
+    final StringBuilder output,
+    final long address)
+  {
+    output.setLength(0);
+    output.append("Address: ");
+    MACFormatting.appendTo(address, this.notation, output);
+    output.append(", Multicast: ");
+    output.append(MACPacked.isMulticast(address));
+    output.append(", Broadcast: ");
+    output.append(MACPacked.isBroadcast(address));
+    output.append(", Local: ");
+    output.append(MACPacked.isLocallyAdministered(address));
+
+    /*
+     * The registry is searched in place rather than through a prefix index
+     * so that the startup cost of a describe run does not depend on the
+     * size of the registry.
+     */
+
+    final var block = registry.lookup(address);
+    if (block >= 0) {
+      output.append(", Vendor: ");
+      output.append(registry.blockVendor(block));
+    }
+    System.out.println(output);
   }
 
   @Override
@@ -20,15 +20,38 @@ import com.beust.jcommander.Parameter;
 import com.beust.jcommander.Parameters;
 import com.io7m.claypot.core.CLPAbstractCommand;
 import com.io7m.claypot.core.CLPCommandContextType;
-import com.io7m.ethermaker.core.MACAddress;
+import com.io7m.ethermaker.core.MACAddressBitmapSet;
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACAddressPolicy;
+import com.io7m.ethermaker.core.MACAddressWriter;
+import com.io7m.ethermaker.core.MACAddressSetType;
 import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACEntropyPool;
+import com.io7m.ethermaker.core.MACMask;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACPacked;
+import com.io7m.ethermaker.core.MACParallelGeneration;
+import com.io7m.ethermaker.core.MACPermutation;
+import com.io7m.ethermaker.core.MACRecordFormat;
+import com.io7m.ethermaker.core.MACTemplates;
 import com.io7m.jranges.RangeCheck;
 
-import java.security.SecureRandom;
-import java.util.HashSet;
-import java.util.Optional;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 import static com.io7m.claypot.core.CLPCommandType.Status.SUCCESS;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * The "generate" command.
@@ -37,12 +60,20 @@ import static com.io7m.claypot.core.CLPCommandType.Status.SUCCESS;
 @Parameters(commandDescription = "Generate MAC addresses")
 public final class EMCommandGenerate extends CLPAbstractCommand
 {
+  private static final int BATCH_SIZE = 4096;
+
   @Parameter(
     required = false,
     names = "--organization",
-    description = "The OUI, such as 'C42996'")
+    description = "The OUI or prefix, such as 'C42996' or '52:54:00:00:00:00/28'")
   private String organization;
 
+  @Parameter(
+    required = false,
+    names = "--template",
+    description = "A template such as '52:54:00:1x:xx:xx', where x and ? are free digits")
+  private String template;
+
   @Parameter(
     required = false,
     names = "--local",
@@ -54,15 +85,15 @@ public final class EMCommandGenerate extends CLPAbstractCommand
     required = false,
     names = "--unicast",
     arity = 1,
-    description = "Make the address(es) a unicast address")
-  private boolean forceUnicast = true;
+    description = "Make the address(es) a unicast address (the default, unless fixed by other options)")
+  private Boolean forceUnicast;
 
   @Parameter(
     required = false,
     names = "--multicast",
     arity = 1,
     description = "Make the address(es) a multicast address")
-  private boolean forceMulticast;
+  private Boolean forceMulticast;
 
   @Parameter(
     required = false,
@@ -70,6 +101,54 @@ public final class EMCommandGenerate extends CLPAbstractCommand
     description = "The number of addresses to generate")
   private int count = 1;
 
+  @Parameter(
+    required = false,
+    names = "--notation",
+    description = "The notation used to write addresses")
+  private MACNotation notation = MACNotation.COLON;
+
+  @Parameter(
+    required = false,
+    names = "--format",
+    description = "The format in which addresses are written")
+  private MACRecordFormat format = MACRecordFormat.TEXT;
+
+  @Parameter(
+    required = false,
+    names = "--output",
+    description = "The file to which addresses are written (defaults to the standard output)")
+  private Path output;
+
+  @Parameter(
+    required = false,
+    names = "--rng",
+    description = "The source of random numbers")
+  private EMRandomSource randomSource = EMRandomSource.SECURE;
+
+  @Parameter(
+    required = false,
+    names = "--seed",
+    description = "The seed for non-cryptographic random sources")
+  private Long seed;
+
+  @Parameter(
+    required = false,
+    names = "--parallelism",
+    description = "Generate random addresses using the given number of threads")
+  private Integer parallelism;
+
+  @Parameter(
+    required = false,
+    names = "--permutation-key",
+    description = "Generate unique addresses from a keyed permutation with the given key")
+  private Long permutationKey;
+
+  @Parameter(
+    required = false,
+    names = "--start-index",
+    description = "The permutation index of the first address (requires --permutation-key)")
+  private Long startIndex;
+
   /**
    * Construct a command.
    *
@@ -100,36 +179,233 @@ public final class EMCommandGenerate extends CLPAbstractCommand
       "Minimum count"
     );
 
-    final Optional<MACAddress> orgBase;
+    final MACMask baseMask;
+    if (this.organization != null && this.template != null) {
+      throw new IllegalArgumentException(
+        "The --organization and --template options cannot be used together"
+      );
+    }
+    if (this.startIndex != null && this.permutationKey == null) {
+      throw new IllegalArgumentException(
+        "The --start-index option requires --permutation-key"
+      );
+    }
+    if (this.parallelism != null && this.permutationKey != null) {
+      throw new IllegalArgumentException(
+        "The --parallelism and --permutation-key options cannot be used together"
+      );
+    }
     if (this.organization != null) {
-      orgBase = Optional.of(MACAddresses.parseOrganization(this.organization));
+      baseMask = MACAddresses.parsePrefix(this.organization).toMask();
+    } else if (this.template != null) {
+      baseMask = MACTemplates.compile(this.template);
     } else {
-      orgBase = Optional.empty();
+      baseMask = MACMasks.unconstrained();
     }
 
-    final var rng = SecureRandom.getInstanceStrong();
-    final var numbers = new HashSet<MACAddress>(this.count);
-    while (numbers.size() != this.count) {
-      var address = MACAddresses.generate(orgBase, rng);
-      if (address.isBroadcast()) {
-        continue;
+    /*
+     * Explicit flag options override any flag bits fixed by the
+     * organization or template.
+     */
+
+    final var mask = this.policy(baseMask).apply(baseMask);
+
+    var available = mask.size();
+    if (mask.contains(MACPacked.BROADCAST)) {
+      available -= 1L;
+    }
+
+    RangeCheck.checkLessEqualLong(
+      this.count,
+      "Count",
+      available,
+      "Addresses available within the constraints"
+    );
+
+    if (this.output != null) {
+      try (var channel = FileChannel.open(this.output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+        this.generate(mask, channel);
       }
-      if (this.forceMulticast) {
-        address = MACAddresses.asMulticast(address);
+    } else {
+      /*
+       * The standard output channel is deliberately not closed.
+       */
+
+      final var stdout = new FileOutputStream(FileDescriptor.out);
+      this.generate(mask, stdout.getChannel());
+    }
+    return SUCCESS;
+  }
+
+  private void generate(
+    final MACMask mask,
+    final WritableByteChannel channel)
+    throws IOException, NoSuchAlgorithmException
+  {
+    final var writer = MACAddressWriter.create(channel, this.format, this.notation);
+    if (this.permutationKey != null) {
+      this.generatePermutation(mask, writer);
+    } else {
+      this.generateRandom(mask, writer);
+    }
+    writer.flush();
+  }
+
+  private void generatePermutation(
+    final MACMask mask,
+    final MACAddressWriter writer)
+    throws IOException
+  {
+    final var permutation =
+      MACPermutation.create(mask, this.permutationKey.longValue());
+    final var start =
+      this.startIndex != null ? this.startIndex.longValue() : 0L;
+
+    RangeCheck.checkGreaterEqualLong(
+      start,
+      "Start index",
+      0L,
+      "Minimum index"
+    );
+    RangeCheck.checkLessEqualLong(
+      start,
+      "Start index",
+      permutation.size() - this.count,
+      "Addresses available within the constraints - Count"
+    );
+
+    final var batch = new long[Math.min(this.count, BATCH_SIZE)];
+    var index = start;
+    var remaining = this.count;
+    while (remaining > 0) {
+      final var length = Math.min(batch.length, remaining);
+      permutation.addressesInto(index, batch, 0, length);
+      writer.writeAll(batch, 0, length);
+      index += length;
+      remaining -= length;
+    }
+  }
+
+  private void generateRandom(
+    final MACMask mask,
+    final MACAddressWriter writer)
+    throws IOException, NoSuchAlgorithmException
+  {
+    /*
+     * If only the NIC-specific octets vary, then a dense bitmap can track
+     * the entire address space.
+     */
+
+    final MACAddressSetType numbers;
+    if ((mask.freeBits() & ~MACPacked.NIC_MASK) == 0L) {
+      numbers = MACAddressBitmapSet.create(mask.fixedBits());
+    } else {
+      numbers = MACAddressHashSet.create(this.count);
+    }
+
+    final var rng = this.randomSource.createWithSeed(this.seed);
+    try {
+      if (this.parallelism != null) {
+        this.fillParallel(mask, rng, numbers);
+      } else {
+        this.fillSequential(mask, rng, numbers);
       }
-      if (this.forceUnicast) {
-        address = MACAddresses.asUnicast(address);
+    } finally {
+      if (rng instanceof final MACEntropyPool pool) {
+        pool.close();
       }
-      if (this.forceLocal) {
-        address = MACAddresses.asLocallyAdministered(address);
+    }
+
+    try {
+      numbers.forEach(number -> {
+        try {
+          writer.write(number);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void fillSequential(
+    final MACMask mask,
+    final RandomGenerator rng,
+    final MACAddressSetType numbers)
+  {
+    final var batch = new long[Math.min(this.count, BATCH_SIZE)];
+    while (numbers.size() != this.count) {
+      final var required =
+        (int) Math.min(batch.length, this.count - numbers.size());
+
+      MACAddresses.generateInto(mask, rng, batch, 0, required);
+      for (int index = 0; index < required; ++index) {
+        numbers.add(batch[index]);
       }
-      numbers.add(address);
     }
+  }
 
-    for (final var number : numbers) {
-      System.out.println(number);
+  private void fillParallel(
+    final MACMask mask,
+    final RandomGenerator rng,
+    final MACAddressSetType numbers)
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      this.parallelism.intValue(),
+      "Parallelism",
+      1,
+      "Minimum parallelism"
+    );
+
+    if (!(rng instanceof final RandomGenerator.SplittableGenerator splittable)) {
+      throw new IllegalArgumentException(
+        "The random source %s cannot be used with --parallelism"
+          .formatted(this.randomSource)
+      );
     }
-    return SUCCESS;
+
+    try (var pool = new ForkJoinPool(this.parallelism.intValue())) {
+      MACParallelGeneration.generateInto(
+        mask,
+        splittable,
+        pool,
+        numbers,
+        this.count
+      );
+    }
+  }
+
+  private MACAddressPolicy policy(
+    final MACMask baseMask)
+  {
+    final var unicast = Boolean.TRUE.equals(this.forceUnicast);
+    final var multicast = Boolean.TRUE.equals(this.forceMulticast);
+    if (unicast && multicast) {
+      throw new IllegalArgumentException(
+        "The --unicast and --multicast options cannot both be true"
+      );
+    }
+
+    /*
+     * Addresses are unicast by default, unless the user explicitly asked
+     * otherwise or the organization/template already fixes the multicast bit.
+     */
+
+    final var builder = MACAddressPolicy.builder();
+    if (multicast) {
+      builder.setMulticast(true);
+    } else if (unicast) {
+      builder.setMulticast(false);
+    } else if (this.forceUnicast == null
+      && (baseMask.freeBits() & MACPacked.MULTICAST_BIT) != 0L) {
+      builder.setMulticast(false);
+    }
+
+    if (this.forceLocal) {
+      builder.setLocallyAdministered(true);
+    }
+    return builder.build();
   }
 
   @Override
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2020 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.cmdline.internal;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import com.io7m.claypot.core.CLPAbstractCommand;
+import com.io7m.claypot.core.CLPCommandContextType;
+import com.io7m.ethermaker.core.MACRegistryCSV;
+import com.io7m.ethermaker.core.MACRegistryWriter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.io7m.claypot.core.CLPCommandType.Status.SUCCESS;
+
+/**
+ * The "oui-compile" command.
+ */
+
+@Parameters(commandDescription = "Compile IEEE registry CSV files to a registry file")
+public final class EMCommandOUICompile extends CLPAbstractCommand
+{
+  @Parameter(
+    required = true,
+    names = "--input",
+    description = "An IEEE registry CSV file (may be specified multiple times)")
+  private List<Path> inputs;
+
+  @Parameter(
+    required = true,
+    names = "--output",
+    description = "The output registry file")
+  private Path output;
+
+  /**
+   * Construct a command.
+   *
+   * @param inContext The command context
+   */
+
+  public EMCommandOUICompile(
+    final CLPCommandContextType inContext)
+  {
+    super(inContext);
+  }
+
+  @Override
+  public String extendedHelp()
+  {
+    return EMMessages.create()
+      .format("helpOUICompile");
+  }
+
+  @Override
+  protected Status executeActual()
+    throws Exception
+  {
+    final var writer = MACRegistryWriter.create();
+    for (final var input : this.inputs) {
+      final var added = MACRegistryCSV.readInto(input, writer);
+      this.logger().info("{}: {} blocks", input, Integer.valueOf(added));
+    }
+
+    writer.writeTo(this.output);
+    this.logger().info(
+      "Wrote {} blocks ({} vendors) to {}",
+      Integer.valueOf(writer.blockCount()),
+      Integer.valueOf(writer.vendorCount()),
+      this.output
+    );
+    return SUCCESS;
+  }
+
+  @Override
+  public String name()
+  {
+    return "oui-compile";
+  }
+}
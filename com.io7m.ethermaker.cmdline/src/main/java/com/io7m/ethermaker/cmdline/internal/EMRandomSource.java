@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2020 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.cmdline.internal;
+
+import com.io7m.ethermaker.core.MACEntropyPool;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The available sources of random numbers.
+ */
+
+public enum EMRandomSource
+{
+  /**
+   * The platform's strong {@link SecureRandom} instance. This may block
+   * when the operating system has not gathered enough entropy.
+   */
+
+  STRONG {
+    @Override
+    RandomGenerator create(
+      final OptionalLong seed)
+      throws NoSuchAlgorithmException
+    {
+      checkUnseeded(this, seed);
+      return SecureRandom.getInstanceStrong();
+    }
+  },
+
+  /**
+   * The platform's default {@link SecureRandom} instance, which does not
+   * block.
+   */
+
+  SECURE {
+    @Override
+    RandomGenerator create(
+      final OptionalLong seed)
+    {
+      checkUnseeded(this, seed);
+      return new SecureRandom();
+    }
+  },
+
+  /**
+   * The platform's default {@link SecureRandom} instance, read in large
+   * blocks through a {@link MACEntropyPool}.
+   */
+
+  SECURE_POOLED {
+    @Override
+    RandomGenerator create(
+      final OptionalLong seed)
+    {
+      checkUnseeded(this, seed);
+      return MACEntropyPool.create(new SecureRandom());
+    }
+  },
+
+  /**
+   * The non-cryptographic {@code L64X128MixRandom} algorithm.
+   */
+
+  L64X128MIXRANDOM {
+    @Override
+    RandomGenerator create(
+      final OptionalLong seed)
+    {
+      final var factory =
+        RandomGeneratorFactory.<RandomGenerator>of("L64X128MixRandom");
+      if (seed.isPresent()) {
+        return factory.create(seed.getAsLong());
+      }
+      return factory.create();
+    }
+  },
+
+  /**
+   * The non-cryptographic {@link SplittableRandom} algorithm.
+   */
+
+  SPLITTABLE {
+    @Override
+    RandomGenerator create(
+      final OptionalLong seed)
+    {
+      if (seed.isPresent()) {
+        return new SplittableRandom(seed.getAsLong());
+      }
+      return new SplittableRandom();
+    }
+  };
+
+  private static void checkUnseeded(
+    final EMRandomSource source,
+    final OptionalLong seed)
+  {
+    if (seed.isPresent()) {
+      throw new IllegalArgumentException(
+        "The random source %s cannot be seeded".formatted(source)
+      );
+    }
+  }
+
+  /**
+   * Create a random number generator.
+   *
+   * @param seed The seed, if any
+   *
+   * @return A new random number generator
+   *
+   * @throws NoSuchAlgorithmException If the underlying algorithm is unavailable
+   */
+
+  abstract RandomGenerator create(
+    OptionalLong seed)
+    throws NoSuchAlgorithmException;
+
+  /**
+   * Create a random number generator.
+   *
+   * @param seed The seed, or {@code null} for an unseeded generator
+   *
+   * @return A new random number generator
+   *
+   * @throws NoSuchAlgorithmException If the underlying algorithm is unavailable
+   */
+
+  RandomGenerator createWithSeed(
+    final Long seed)
+    throws NoSuchAlgorithmException
+  {
+    if (seed == null) {
+      return this.create(OptionalLong.empty());
+    }
+    return this.create(OptionalLong.of(seed.longValue()));
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of packed MAC addresses that all share a single organization. The
+ * 24-bit NIC-specific part of each address is tracked as one bit in a dense
+ * bitmap, so the set occupies a constant 2 MiB regardless of the number of
+ * addresses it contains.
+ */
+
+public final class MACAddressBitmapSet implements MACAddressSetType
+{
+  private static final int NIC_COUNT = 1 << 24;
+
+  private final long organizationBits;
+  private final long[] words;
+  private final long capacity;
+  private long size;
+
+  private MACAddressBitmapSet(
+    final long inOrganizationBits)
+  {
+    this.organizationBits = inOrganizationBits;
+    this.words = new long[NIC_COUNT >>> 6];
+
+    /*
+     * The broadcast address can never be a member of the set, so it
+     * reduces the capacity of the "ff:ff:ff" organization by one.
+     */
+
+    if (MACPacked.isBroadcast(inOrganizationBits | MACPacked.NIC_MASK)) {
+      this.capacity = NIC_COUNT - 1;
+    } else {
+      this.capacity = NIC_COUNT;
+    }
+  }
+
+  /**
+   * Create a new empty set for the organization of the given address.
+   *
+   * @param organization An address whose OUI octets name the organization
+   *
+   * @return A new empty set
+   */
+
+  public static MACAddressBitmapSet create(
+    final long organization)
+  {
+    return new MACAddressBitmapSet(organization & MACPacked.ORGANIZATION_MASK);
+  }
+
+  /**
+   * @return The organization of addresses in this set, as a packed address with zero NIC octets
+   */
+
+  public long organization()
+  {
+    return this.organizationBits;
+  }
+
+  /**
+   * @return The maximum number of addresses this set can contain
+   */
+
+  public long capacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * @return {@code true} if no more addresses can be added to this set
+   */
+
+  public boolean isFull()
+  {
+    return this.size == this.capacity;
+  }
+
+  private void checkAddress(
+    final long address)
+  {
+    if ((address & ~MACPacked.NIC_MASK) != this.organizationBits) {
+      throw new IllegalArgumentException(
+        "Address 0x%x is not within the organization 0x%x".formatted(
+          Long.valueOf(address),
+          Long.valueOf(this.organizationBits >>> 24)
+        )
+      );
+    }
+    if (MACPacked.isBroadcast(address)) {
+      throw new IllegalArgumentException(
+        "The broadcast address cannot be added to the set"
+      );
+    }
+  }
+
+  @Override
+  public boolean add(
+    final long address)
+  {
+    this.checkAddress(address);
+
+    final var nic = MACPacked.nic(address);
+    final var index = nic >>> 6;
+    final var bit = 1L << nic;
+    final var word = this.words[index];
+    if ((word & bit) != 0L) {
+      return false;
+    }
+    this.words[index] = word | bit;
+    ++this.size;
+    return true;
+  }
+
+  @Override
+  public boolean contains(
+    final long address)
+  {
+    if ((address & ~MACPacked.NIC_MASK) != this.organizationBits) {
+      return false;
+    }
+    final var nic = MACPacked.nic(address);
+    return (this.words[nic >>> 6] & (1L << nic)) != 0L;
+  }
+
+  @Override
+  public long size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public void forEach(
+    final LongConsumer consumer)
+  {
+    Objects.requireNonNull(consumer, "consumer");
+
+    for (int index = 0; index < this.words.length; ++index) {
+      long word = this.words[index];
+      while (word != 0L) {
+        final var bit = Long.numberOfTrailingZeros(word);
+        consumer.accept(this.organizationBits | ((long) index << 6) | bit);
+        word &= word - 1L;
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACAddressBitmapSet 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of packed MAC addresses implemented as an open-addressing hash table
+ * with linear probing over a primitive {@code long} array. Addresses are
+ * spread with a 64-bit finalizer so that addresses sharing an organization
+ * do not cluster.
+ */
+
+public final class MACAddressHashSet implements MACAddressSetType
+{
+  private static final long EMPTY = -1L;
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private long[] slots;
+  private int mask;
+  private int size;
+  private int threshold;
+
+  private MACAddressHashSet(
+    final int capacity)
+  {
+    this.allocate(capacity);
+  }
+
+  /**
+   * Create a new set large enough to hold {@code expected} addresses without
+   * resizing.
+   *
+   * @param expected The expected number of addresses
+   *
+   * @return A new empty set
+   */
+
+  public static MACAddressHashSet create(
+    final long expected)
+  {
+    RangeCheck.checkGreaterEqualLong(
+      expected,
+      "Expected size",
+      0L,
+      "Minimum size"
+    );
+    return new MACAddressHashSet(capacityFor(expected));
+  }
+
+  private static int capacityFor(
+    final long expected)
+  {
+    final var required = Math.max(MINIMUM_CAPACITY, expected * 2L);
+    if (required > MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException(
+        "Expected size %d exceeds the maximum set capacity %d"
+          .formatted(Long.valueOf(expected), Integer.valueOf(MAXIMUM_CAPACITY / 2))
+      );
+    }
+    return Integer.highestOneBit((int) required - 1) << 1;
+  }
+
+  /**
+   * The 64-bit finalizer from MurmurHash3.
+   *
+   * @param x The input value
+   *
+   * @return A well-mixed hash of the input
+   */
+
+  static long mix(
+    final long x)
+  {
+    long h = x;
+    h ^= h >>> 33;
+    h *= 0xff51_afd7_ed55_8ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ce_b9fe_1a85_ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private void allocate(
+    final int capacity)
+  {
+    this.slots = new long[capacity];
+    Arrays.fill(this.slots, EMPTY);
+    this.mask = capacity - 1;
+    this.threshold = capacity >>> 1;
+  }
+
+  private static void checkAddress(
+    final long address)
+  {
+    if (!MACPacked.isValid(address)) {
+      throw new IllegalArgumentException(
+        "Not a packed 48-bit address: 0x%x".formatted(Long.valueOf(address))
+      );
+    }
+  }
+
+  @Override
+  public boolean add(
+    final long address)
+  {
+    checkAddress(address);
+
+    final var table = this.slots;
+    int index = (int) mix(address) & this.mask;
+    while (true) {
+      final var existing = table[index];
+      if (existing == EMPTY) {
+        break;
+      }
+      if (existing == address) {
+        return false;
+      }
+      index = (index + 1) & this.mask;
+    }
+
+    /*
+     * Refuse the insertion if it would require growing a table that is
+     * already at the maximum capacity, so that a failed add leaves the set
+     * unchanged.
+     */
+
+    if (this.size >= this.threshold && table.length >= MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("Set capacity exhausted");
+    }
+
+    table[index] = address;
+    ++this.size;
+    if (this.size > this.threshold) {
+      this.resize();
+    }
+    return true;
+  }
+
+  private void resize()
+  {
+    final var old = this.slots;
+    this.allocate(old.length << 1);
+    final var table = this.slots;
+    for (final var address : old) {
+      if (address != EMPTY) {
+        int index = (int) mix(address) & this.mask;
+        while (table[index] != EMPTY) {
+          index = (index + 1) & this.mask;
+        }
+        table[index] = address;
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(
+    final long address)
+  {
+    if (!MACPacked.isValid(address)) {
+      return false;
+    }
+
+    final var table = this.slots;
+    int index = (int) mix(address) & this.mask;
+    while (true) {
+      final var existing = table[index];
+      if (existing == EMPTY) {
+        return false;
+      }
+      if (existing == address) {
+        return true;
+      }
+      index = (index + 1) & this.mask;
+    }
+  }
+
+  @Override
+  public long size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public void forEach(
+    final LongConsumer consumer)
+  {
+    Objects.requireNonNull(consumer, "consumer");
+
+    for (final var address : this.slots) {
+      if (address != EMPTY) {
+        consumer.accept(address);
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACAddressHashSet 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A policy over the flag bits of addresses. Each flag is either required to
+ * have a given value or left unconstrained. The policy is compiled to a pair
+ * of bit masks, so that applying it to a packed address, or to an address
+ * mask, is a single AND and OR regardless of how many flags are constrained.
+ *
+ * @see MACPacked#MULTICAST_BIT
+ * @see MACPacked#LOCAL_BIT
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public abstract class MACAddressPolicyType
+{
+  /**
+   * @return {@code true} if addresses must be multicast, {@code false} if addresses must be unicast
+   */
+
+  public abstract Optional<Boolean> multicast();
+
+  /**
+   * @return {@code true} if addresses must be locally administered, {@code false} if addresses must be OUI enforced
+   */
+
+  public abstract Optional<Boolean> locallyAdministered();
+
+  /**
+   * @return The mask of bits whose values are fixed by the policy
+   */
+
+  @Value.Derived
+  public long constrainedBits()
+  {
+    var bits = 0L;
+    if (this.multicast().isPresent()) {
+      bits |= MACPacked.MULTICAST_BIT;
+    }
+    if (this.locallyAdministered().isPresent()) {
+      bits |= MACPacked.LOCAL_BIT;
+    }
+    return bits;
+  }
+
+  /**
+   * @return The values of the constrained bits; always zero for unconstrained bits
+   */
+
+  @Value.Derived
+  public long requiredBits()
+  {
+    var bits = 0L;
+    if (this.multicast().orElse(Boolean.FALSE).booleanValue()) {
+      bits |= MACPacked.MULTICAST_BIT;
+    }
+    if (this.locallyAdministered().orElse(Boolean.FALSE).booleanValue()) {
+      bits |= MACPacked.LOCAL_BIT;
+    }
+    return bits;
+  }
+
+  /**
+   * Apply the policy to the given packed address.
+   *
+   * @param address The packed address
+   *
+   * @return The address with every constrained bit set to its required value
+   */
+
+  public final long apply(
+    final long address)
+  {
+    return (address & ~this.constrainedBits()) | this.requiredBits();
+  }
+
+  /**
+   * Apply the policy to the given address.
+   *
+   * @param address The address
+   *
+   * @return The address with every constrained bit set to its required value
+   */
+
+  public final MACAddress apply(
+    final MACAddressType address)
+  {
+    Objects.requireNonNull(address, "address");
+    return MACPacked.unpack(this.apply(MACPacked.pack(address)));
+  }
+
+  /**
+   * Apply the policy to the given mask. Unlike
+   * {@link #constrain(MACMaskType)}, a bit that the mask fixes to a value
+   * other than the required value is overridden rather than rejected.
+   *
+   * @param mask The mask
+   *
+   * @return The mask with every constrained bit fixed to its required value
+   */
+
+  public final MACMask apply(
+    final MACMaskType mask)
+  {
+    Objects.requireNonNull(mask, "mask");
+    return mask.withFixed(this.constrainedBits(), this.requiredBits());
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if the given address satisfies the policy
+   */
+
+  public final boolean permits(
+    final long address)
+  {
+    return (address & this.constrainedBits()) == this.requiredBits();
+  }
+
+  /**
+   * @return A mask that produces exactly the addresses permitted by the policy
+   */
+
+  public final MACMask toMask()
+  {
+    return this.constrain(MACMasks.unconstrained());
+  }
+
+  /**
+   * Constrain the given mask with the policy. A bit that is already fixed by
+   * the mask to the value required by the policy is left as it is.
+   *
+   * @param mask The mask
+   *
+   * @return A mask that produces the addresses of {@code mask} permitted by the policy
+   *
+   * @throws IllegalArgumentException If the mask fixes a constrained bit to a value other than the required value
+   */
+
+  public final MACMask constrain(
+    final MACMaskType mask)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(mask, "mask");
+
+    final var constrained = this.constrainedBits();
+    final var required = this.requiredBits();
+    final var conflicts =
+      ~mask.freeBits() & constrained & (mask.fixedBits() ^ required);
+
+    if ((conflicts & MACPacked.MULTICAST_BIT) != 0L) {
+      throw new IllegalArgumentException(
+        "The mask fixes the multicast bit to %d, but the policy requires %d"
+          .formatted(
+            Integer.valueOf(bitValue(mask.fixedBits(), MACPacked.MULTICAST_BIT)),
+            Integer.valueOf(bitValue(required, MACPacked.MULTICAST_BIT)))
+      );
+    }
+    if ((conflicts & MACPacked.LOCAL_BIT) != 0L) {
+      throw new IllegalArgumentException(
+        "The mask fixes the locally administered bit to %d, but the policy requires %d"
+          .formatted(
+            Integer.valueOf(bitValue(mask.fixedBits(), MACPacked.LOCAL_BIT)),
+            Integer.valueOf(bitValue(required, MACPacked.LOCAL_BIT)))
+      );
+    }
+    return mask.withFixed(constrained, required);
+  }
+
+  private static int bitValue(
+    final long value,
+    final long bit)
+  {
+    return (value & bit) != 0L ? 1 : 0;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * A reader of binary address records, the counterpart of
+ * {@link MACAddressWriter}. Records are decoded directly from a reusable
+ * byte buffer without any text parsing. The reader does not close the
+ * channel.
+ *
+ * @see MACRecordFormat
+ */
+
+public final class MACAddressReader
+{
+  /**
+   * The default size of the input buffer in bytes.
+   */
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  private final ReadableByteChannel channel;
+  private final MACRecordFormat format;
+  private final int recordLength;
+  private final ByteBuffer buffer;
+  private long records;
+  private boolean finished;
+
+  private MACAddressReader(
+    final ReadableByteChannel inChannel,
+    final MACRecordFormat inFormat,
+    final int bufferSize)
+  {
+    this.channel = inChannel;
+    this.format = inFormat;
+    this.recordLength = inFormat.recordLength(MACNotation.COLON);
+    this.buffer = ByteBuffer.allocate(bufferSize);
+    this.buffer.flip();
+  }
+
+  /**
+   * Create a reader with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+   *
+   * @param channel The input channel
+   * @param format  The record format
+   *
+   * @return A new reader
+   */
+
+  public static MACAddressReader create(
+    final ReadableByteChannel channel,
+    final MACRecordFormat format)
+  {
+    return create(channel, format, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a reader.
+   *
+   * @param channel    The input channel
+   * @param format     The record format; textual records are not supported
+   * @param bufferSize The size of the input buffer in bytes; must be able to hold at least one record
+   *
+   * @return A new reader
+   *
+   * @see MACAddresses#parseAll(java.nio.file.Path, java.util.function.LongConsumer)
+   */
+
+  public static MACAddressReader create(
+    final ReadableByteChannel channel,
+    final MACRecordFormat format,
+    final int bufferSize)
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(format, "format");
+
+    if (format == MACRecordFormat.TEXT) {
+      throw new IllegalArgumentException(
+        "Textual records must be read with the address parsers"
+      );
+    }
+    RangeCheck.checkGreaterEqualInteger(
+      bufferSize,
+      "Buffer size",
+      format.recordLength(MACNotation.COLON),
+      "Minimum buffer size"
+    );
+    return new MACAddressReader(channel, format, bufferSize);
+  }
+
+  /**
+   * Read up to {@code length} addresses into the given array, starting at
+   * {@code offset}.
+   *
+   * @param output The output array
+   * @param offset The offset of the first address
+   * @param length The maximum number of addresses
+   *
+   * @return The number of addresses read, or {@code -1} at the end of the input
+   *
+   * @throws IOException On I/O errors, truncated records, or records that are not packed addresses
+   */
+
+  public int readInto(
+    final long[] output,
+    final int offset,
+    final int length)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(offset, length, output.length);
+
+    if (this.buffer.remaining() < this.recordLength) {
+      this.fill();
+      if (this.buffer.remaining() < this.recordLength) {
+        return this.end();
+      }
+    }
+
+    int count = 0;
+    while (count < length && this.buffer.remaining() >= this.recordLength) {
+      output[offset + count] = this.decode();
+      ++count;
+    }
+    return count;
+  }
+
+  private int end()
+    throws IOException
+  {
+    if (this.buffer.hasRemaining()) {
+      throw new IOException(
+        "Truncated record %d: %d trailing bytes".formatted(
+          Long.valueOf(this.records),
+          Integer.valueOf(this.buffer.remaining()))
+      );
+    }
+    return -1;
+  }
+
+  private long decode()
+    throws IOException
+  {
+    final long address;
+    if (this.format == MACRecordFormat.BINARY6) {
+      address = MACBytes.getPacked(this.buffer);
+    } else {
+      address = this.buffer.getLong();
+      if (!MACPacked.isValid(address)) {
+        throw new IOException(
+          "Record %d is not a packed 48-bit address: 0x%x".formatted(
+            Long.valueOf(this.records),
+            Long.valueOf(address))
+        );
+      }
+    }
+    ++this.records;
+    return address;
+  }
+
+  private void fill()
+    throws IOException
+  {
+    this.buffer.compact();
+    while (!this.finished && this.buffer.position() < this.recordLength) {
+      if (this.channel.read(this.buffer) < 0) {
+        this.finished = true;
+      }
+    }
+    this.buffer.flip();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACAddressReader 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
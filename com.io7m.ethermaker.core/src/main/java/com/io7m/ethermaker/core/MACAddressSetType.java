@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A mutable set of packed MAC addresses.
+ *
+ * @see MACPacked
+ */
+
+public interface MACAddressSetType
+{
+  /**
+   * Add an address to the set.
+   *
+   * @param address The packed address
+   *
+   * @return {@code true} if the address was not already present
+   */
+
+  boolean add(long address);
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if the address is present in the set
+   */
+
+  boolean contains(long address);
+
+  /**
+   * @return The number of addresses in the set
+   */
+
+  long size();
+
+  /**
+   * Pass each address in the set to the given consumer. The iteration order
+   * is unspecified.
+   *
+   * @param consumer The consumer
+   */
+
+  void forEach(LongConsumer consumer);
+}
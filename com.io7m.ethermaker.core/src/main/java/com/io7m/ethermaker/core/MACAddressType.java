@@ -74,12 +74,7 @@ public abstract class MACAddressType
 
   public final String organization()
   {
-    return String.format(
-      "%02x%02x%02x",
-      Integer.valueOf(this.octet0()),
-      Integer.valueOf(this.octet1()),
-      Integer.valueOf(this.octet2())
-    );
+    return MACFormatting.formatOrganization(MACPacked.pack(this));
   }
 
   /**
@@ -154,17 +149,19 @@ public abstract class MACAddressType
       "Valid octet values");
   }
 
+  /**
+   * @return The address in colon-separated notation, computed once on first use
+   */
+
+  @Value.Lazy
+  public String text()
+  {
+    return MACFormatting.format(MACPacked.pack(this));
+  }
+
   @Override
   public final String toString()
   {
-    return String.format(
-      "%02x:%02x:%02x:%02x:%02x:%02x",
-      Integer.valueOf(this.octet0()),
-      Integer.valueOf(this.octet1()),
-      Integer.valueOf(this.octet2()),
-      Integer.valueOf(this.octet3()),
-      Integer.valueOf(this.octet4()),
-      Integer.valueOf(this.octet5())
-    );
+    return this.text();
   }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * A writer that encodes packed addresses as fixed-length records in a
+ * reusable byte buffer, and writes the buffer to a channel whenever it
+ * fills. The writer does not allocate per address, and does not close the
+ * channel.
+ *
+ * @see MACRecordFormat
+ */
+
+public final class MACAddressWriter
+{
+  /**
+   * The default size of the output buffer in bytes.
+   */
+
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  private final WritableByteChannel channel;
+  private final MACRecordFormat format;
+  private final MACNotation notation;
+  private final int recordLength;
+  private final byte[] bytes;
+  private final ByteBuffer buffer;
+  private int position;
+
+  private MACAddressWriter(
+    final WritableByteChannel inChannel,
+    final MACRecordFormat inFormat,
+    final MACNotation inNotation,
+    final int bufferSize)
+  {
+    this.channel = inChannel;
+    this.format = inFormat;
+    this.notation = inNotation;
+    this.recordLength = inFormat.recordLength(inNotation);
+    this.bytes = new byte[bufferSize];
+    this.buffer = ByteBuffer.wrap(this.bytes);
+    this.position = 0;
+  }
+
+  /**
+   * Create a writer of textual records with a buffer of
+   * {@link #DEFAULT_BUFFER_SIZE} bytes.
+   *
+   * @param channel  The output channel
+   * @param notation The notation used to write addresses
+   *
+   * @return A new writer
+   */
+
+  public static MACAddressWriter create(
+    final WritableByteChannel channel,
+    final MACNotation notation)
+  {
+    return create(channel, MACRecordFormat.TEXT, notation, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a writer of textual records.
+   *
+   * @param channel    The output channel
+   * @param notation   The notation used to write addresses
+   * @param bufferSize The size of the output buffer in bytes; must be able to hold at least one line
+   *
+   * @return A new writer
+   */
+
+  public static MACAddressWriter create(
+    final WritableByteChannel channel,
+    final MACNotation notation,
+    final int bufferSize)
+  {
+    return create(channel, MACRecordFormat.TEXT, notation, bufferSize);
+  }
+
+  /**
+   * Create a writer with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+   *
+   * @param channel  The output channel
+   * @param format   The record format
+   * @param notation The notation used to write textual records
+   *
+   * @return A new writer
+   */
+
+  public static MACAddressWriter create(
+    final WritableByteChannel channel,
+    final MACRecordFormat format,
+    final MACNotation notation)
+  {
+    return create(channel, format, notation, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create a writer.
+   *
+   * @param channel    The output channel
+   * @param format     The record format
+   * @param notation   The notation used to write textual records
+   * @param bufferSize The size of the output buffer in bytes; must be able to hold at least one record
+   *
+   * @return A new writer
+   */
+
+  public static MACAddressWriter create(
+    final WritableByteChannel channel,
+    final MACRecordFormat format,
+    final MACNotation notation,
+    final int bufferSize)
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(format, "format");
+    Objects.requireNonNull(notation, "notation");
+    RangeCheck.checkGreaterEqualInteger(
+      bufferSize,
+      "Buffer size",
+      format.recordLength(notation),
+      "Minimum buffer size"
+    );
+    return new MACAddressWriter(channel, format, notation, bufferSize);
+  }
+
+  /**
+   * Write an address as a single record.
+   *
+   * @param address The packed address
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void write(
+    final long address)
+    throws IOException
+  {
+    if (this.position + this.recordLength > this.bytes.length) {
+      this.flush();
+    }
+
+    final var at = this.position;
+    switch (this.format) {
+      case TEXT -> {
+        final var end =
+          MACFormatting.formatInto(address, this.notation, this.bytes, at);
+        this.bytes[end] = (byte) '\n';
+      }
+      case BINARY6 -> {
+        MACBytes.putInto(address, this.bytes, at);
+      }
+      case BINARY8 -> {
+        this.buffer.putLong(at, address);
+      }
+    }
+    this.position = at + this.recordLength;
+  }
+
+  /**
+   * Write {@code length} addresses from the given array, starting at
+   * {@code offset}, as one record each.
+   *
+   * @param addresses The packed addresses
+   * @param offset    The offset of the first address
+   * @param length    The number of addresses
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeAll(
+    final long[] addresses,
+    final int offset,
+    final int length)
+    throws IOException
+  {
+    Objects.checkFromIndexSize(offset, length, addresses.length);
+    for (int index = offset; index < offset + length; ++index) {
+      this.write(addresses[index]);
+    }
+  }
+
+  /**
+   * Write any buffered output to the channel.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void flush()
+    throws IOException
+  {
+    this.buffer.clear();
+    this.buffer.limit(this.position);
+    while (this.buffer.hasRemaining()) {
+      this.channel.write(this.buffer);
+    }
+    this.position = 0;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACAddressWriter 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
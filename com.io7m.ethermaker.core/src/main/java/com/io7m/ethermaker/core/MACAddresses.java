@@ -16,12 +16,17 @@
 
 package com.io7m.ethermaker.core;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.ResourceBundle;
-import java.util.regex.Pattern;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Functions over MAC addresses.
@@ -29,17 +34,14 @@ import java.util.regex.Pattern;
 
 public final class MACAddresses
 {
-  private static final Pattern VALID_MAC_ADDRESSES =
-    Pattern.compile(
-      "([a-f0-9]{2}):([a-f0-9]{2}):([a-f0-9]{2}):([a-f0-9]{2}):([a-f0-9]{2}):([a-f0-9]{2})",
-      Pattern.CASE_INSENSITIVE
-    );
+  private static final String VALID_MAC_ADDRESSES =
+    "xx:xx:xx:xx:xx:xx, xx-xx-xx-xx-xx-xx, xxxx.xxxx.xxxx, or xxxxxxxxxxxx";
 
-  private static final Pattern VALID_ORGANIZATION =
-    Pattern.compile(
-      "([a-f0-9]{6})",
-      Pattern.CASE_INSENSITIVE
-    );
+  private static final String VALID_ORGANIZATION =
+    "([a-f0-9]{6})";
+
+  private static final String VALID_PREFIX =
+    "<address>/n, where n is a prefix length in the range [0, 48], or an OUI ([a-f0-9]{6})";
 
   private static final ResourceBundle RESOURCES =
     ResourceBundle.getBundle("com.io7m.ethermaker.core.Messages");
@@ -122,6 +124,23 @@ public final class MACAddresses
   public static MACAddress generate(
     final Optional<MACAddress> organization,
     final Random random)
+  {
+    return generate(organization, (RandomGenerator) random);
+  }
+
+  /**
+   * Generate a random MAC address, copying the OUI octets from the given
+   * organization, if one is provided.
+   *
+   * @param organization The organization base
+   * @param random       A random number generator
+   *
+   * @return A generated address
+   */
+
+  public static MACAddress generate(
+    final Optional<MACAddress> organization,
+    final RandomGenerator random)
   {
     Objects.requireNonNull(organization, "organization");
     Objects.requireNonNull(random, "random");
@@ -155,7 +174,147 @@ public final class MACAddresses
   }
 
   /**
-   * Parse a MAC address.
+   * Generate a random packed MAC address constrained by the given mask. The
+   * address is produced from a single call to
+   * {@link RandomGenerator#nextLong()} (or {@link MACEntropyPool#next48()}),
+   * and is never the broadcast address.
+   *
+   * @param mask   The mask
+   * @param random A random number generator
+   *
+   * @return A generated packed address
+   */
+
+  public static long generatePacked(
+    final MACMaskType mask,
+    final RandomGenerator random)
+  {
+    Objects.requireNonNull(mask, "mask");
+    Objects.requireNonNull(random, "random");
+    checkCanGenerate(mask);
+
+    final var free = mask.freeBits();
+    final var fixed = mask.fixedBits();
+    while (true) {
+      final var address = (nextBits(random) & free) | fixed;
+      if (address != MACPacked.BROADCAST) {
+        return address;
+      }
+    }
+  }
+
+  /**
+   * Fill {@code length} elements of the given array, starting at
+   * {@code offset}, with random packed MAC addresses constrained by the
+   * given mask. Each address is produced from a single call to
+   * {@link RandomGenerator#nextLong()} (or {@link MACEntropyPool#next48()}),
+   * and is never the broadcast address. The generated addresses are not necessarily distinct.
+   *
+   * @param mask   The mask
+   * @param random A random number generator
+   * @param output The output array
+   * @param offset The starting offset
+   * @param length The number of addresses to generate
+   */
+
+  public static void generateInto(
+    final MACMaskType mask,
+    final RandomGenerator random,
+    final long[] output,
+    final int offset,
+    final int length)
+  {
+    Objects.requireNonNull(mask, "mask");
+    Objects.requireNonNull(random, "random");
+    Objects.requireNonNull(output, "output");
+    Objects.checkFromIndexSize(offset, length, output.length);
+    checkCanGenerate(mask);
+
+    final var free = mask.freeBits();
+    final var fixed = mask.fixedBits();
+    final var end = offset + length;
+    int index = offset;
+    while (index < end) {
+      final var address = (nextBits(random) & free) | fixed;
+      output[index] = address;
+      if (address != MACPacked.BROADCAST) {
+        ++index;
+      }
+    }
+  }
+
+  /**
+   * Fill the remaining space in the given buffer with random packed MAC
+   * addresses constrained by the given mask. On return, the position of the
+   * buffer is equal to its limit.
+   *
+   * @param mask   The mask
+   * @param random A random number generator
+   * @param output The output buffer
+   *
+   * @see #generateInto(MACMaskType, RandomGenerator, long[], int, int)
+   */
+
+  public static void generateInto(
+    final MACMaskType mask,
+    final RandomGenerator random,
+    final LongBuffer output)
+  {
+    Objects.requireNonNull(mask, "mask");
+    Objects.requireNonNull(random, "random");
+    Objects.requireNonNull(output, "output");
+
+    if (output.hasArray()) {
+      final var position = output.position();
+      generateInto(
+        mask,
+        random,
+        output.array(),
+        output.arrayOffset() + position,
+        output.remaining()
+      );
+      output.position(output.limit());
+      return;
+    }
+
+    checkCanGenerate(mask);
+    final var free = mask.freeBits();
+    final var fixed = mask.fixedBits();
+    while (output.hasRemaining()) {
+      final var address = (nextBits(random) & free) | fixed;
+      if (address != MACPacked.BROADCAST) {
+        output.put(address);
+      }
+    }
+  }
+
+  /**
+   * Take at least 48 random bits from the given generator. Entropy pools
+   * can supply exactly 48 bits, saving two bytes of entropy per address.
+   */
+
+  private static long nextBits(
+    final RandomGenerator random)
+  {
+    if (random instanceof final MACEntropyPool pool) {
+      return pool.next48();
+    }
+    return random.nextLong();
+  }
+
+  private static void checkCanGenerate(
+    final MACMaskType mask)
+  {
+    if (mask.freeBits() == 0L && mask.fixedBits() == MACPacked.BROADCAST) {
+      throw new IllegalArgumentException(
+        "The mask can only produce the broadcast address"
+      );
+    }
+  }
+
+  /**
+   * Parse a MAC address. The address can be written in any of the
+   * notations described by {@link MACNotation}.
    *
    * @param text The input text
    *
@@ -164,36 +323,307 @@ public final class MACAddresses
 
   public static MACAddress parse(
     final String text)
+  {
+    return parse((CharSequence) text);
+  }
+
+  /**
+   * Parse a MAC address.
+   *
+   * @param text The input text
+   *
+   * @return A parsed MAC address
+   */
+
+  public static MACAddress parse(
+    final CharSequence text)
+  {
+    return MACPacked.unpack(parsePacked(text));
+  }
+
+  /**
+   * Parse a MAC address into a packed value.
+   *
+   * @param text The input text
+   *
+   * @return A parsed, packed MAC address
+   *
+   * @see MACPacked
+   */
+
+  public static long parsePacked(
+    final CharSequence text)
   {
     Objects.requireNonNull(text, "text");
+    return parsePacked(text, 0, text.length());
+  }
+
+  /**
+   * Parse a MAC address into a packed value from the given range of
+   * characters. This allows for parsing addresses directly out of a
+   * buffer without first creating a string.
+   *
+   * @param text  The input text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return A parsed, packed MAC address
+   *
+   * @see MACPacked
+   */
 
-    final var matcher = VALID_MAC_ADDRESSES.matcher(text.trim());
-    if (matcher.matches()) {
-      final var o0 = matcher.group(1);
-      final var o1 = matcher.group(2);
-      final var o2 = matcher.group(3);
-      final var o3 = matcher.group(4);
-      final var o4 = matcher.group(5);
-      final var o5 = matcher.group(6);
-      return MACAddress.builder()
-        .setOctet0(Integer.parseInt(o0, 16))
-        .setOctet1(Integer.parseInt(o1, 16))
-        .setOctet2(Integer.parseInt(o2, 16))
-        .setOctet3(Integer.parseInt(o3, 16))
-        .setOctet4(Integer.parseInt(o4, 16))
-        .setOctet5(Integer.parseInt(o5, 16))
-        .build();
+  public static long parsePacked(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    final var result = tryParsePacked(text, start, end);
+    if (MACParseStatus.isError(result)) {
+      throw new IllegalArgumentException(
+        parseErrorMessage(result, text.subSequence(start, end))
+      );
     }
+    return result;
+  }
 
-    throw new IllegalArgumentException(
-      MessageFormat.format(
-        RESOURCES.getString("errorMacAddress"),
-        VALID_MAC_ADDRESSES,
-        text
-      )
+  /**
+   * Parse a MAC address without throwing exceptions on invalid input.
+   *
+   * @param text The input text
+   *
+   * @return The parsed MAC address, or nothing if the text is invalid
+   */
+
+  public static Optional<MACAddress> tryParse(
+    final CharSequence text)
+  {
+    final var result = tryParsePacked(text);
+    if (MACParseStatus.isError(result)) {
+      return Optional.empty();
+    }
+    return Optional.of(MACPacked.unpack(result));
+  }
+
+  /**
+   * Parse a MAC address into a packed value without throwing exceptions
+   * on invalid input.
+   *
+   * @param text The input text
+   *
+   * @return A non-negative packed address, or a negative status code
+   *
+   * @see MACParseStatus#ofResult(long)
+   * @see #parseErrorMessage(long, CharSequence)
+   */
+
+  public static long tryParsePacked(
+    final CharSequence text)
+  {
+    Objects.requireNonNull(text, "text");
+    return tryParsePacked(text, 0, text.length());
+  }
+
+  /**
+   * Parse a MAC address into a packed value from the given range of
+   * characters, without throwing exceptions on invalid input.
+   *
+   * @param text  The input text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return A non-negative packed address, or a negative status code
+   *
+   * @see MACParseStatus#ofResult(long)
+   * @see #parseErrorMessage(long, CharSequence)
+   */
+
+  public static long tryParsePacked(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(text, "text");
+    Objects.checkFromToIndex(start, end, text.length());
+    return MACParsing.scanAddress(text, start, end);
+  }
+
+  /**
+   * Parse an organization value, such as "C419D1", into a packed address
+   * with zero NIC octets, without throwing exceptions on invalid input.
+   *
+   * @param text The input text
+   *
+   * @return A non-negative packed address, or a negative status code
+   *
+   * @see MACParseStatus#ofResult(long)
+   * @see #parseOrganizationErrorMessage(long, CharSequence)
+   */
+
+  public static long tryParseOrganizationPacked(
+    final CharSequence text)
+  {
+    Objects.requireNonNull(text, "text");
+    return MACParsing.scanOrganization(text, 0, text.length());
+  }
+
+  /**
+   * Produce a localized error message for a failed address parse.
+   *
+   * @param result The result of a failed parse
+   * @param text   The input text
+   *
+   * @return An error message
+   *
+   * @see #tryParsePacked(CharSequence)
+   */
+
+  public static String parseErrorMessage(
+    final long result,
+    final CharSequence text)
+  {
+    Objects.requireNonNull(text, "text");
+    return MessageFormat.format(
+      RESOURCES.getString("errorMacAddress"),
+      VALID_MAC_ADDRESSES,
+      text,
+      statusMessage(result)
     );
   }
 
+  /**
+   * Produce a localized error message for a failed organization parse.
+   *
+   * @param result The result of a failed parse
+   * @param text   The input text
+   *
+   * @return An error message
+   *
+   * @see #tryParseOrganizationPacked(CharSequence)
+   */
+
+  public static String parseOrganizationErrorMessage(
+    final long result,
+    final CharSequence text)
+  {
+    Objects.requireNonNull(text, "text");
+    return MessageFormat.format(
+      RESOURCES.getString("errorOrg"),
+      VALID_ORGANIZATION,
+      text,
+      statusMessage(result)
+    );
+  }
+
+  private static String statusMessage(
+    final long result)
+  {
+    return switch (MACParseStatus.ofResult(result)) {
+      case OK -> RESOURCES.getString("statusOK");
+      case ERROR_LENGTH -> RESOURCES.getString("statusLength");
+      case ERROR_SEPARATOR -> RESOURCES.getString("statusSeparator");
+      case ERROR_DIGIT -> RESOURCES.getString("statusDigit");
+    };
+  }
+
+  /**
+   * Parse newline-separated ASCII addresses from the given buffer, from its
+   * position to its limit. Blank lines are ignored, and invalid lines are
+   * skipped. On return, the position of the buffer is equal to its limit.
+   *
+   * @param buffer   The buffer
+   * @param receiver The receiver of packed addresses
+   *
+   * @return The number of invalid lines
+   *
+   * @see #parseInto(ByteBuffer, LongConsumer, MACParseErrorReceiverType)
+   */
+
+  public static long parseInto(
+    final ByteBuffer buffer,
+    final LongConsumer receiver)
+  {
+    return parseInto(buffer, receiver, (line, result) -> {
+
+    });
+  }
+
+  /**
+   * Parse newline-separated ASCII addresses from the given buffer, from its
+   * position to its limit. Blank lines are ignored, and invalid lines are
+   * passed to the given error receiver. The addresses can be written in any
+   * of the notations described by {@link MACNotation}. On return, the
+   * position of the buffer is equal to its limit.
+   *
+   * @param buffer   The buffer
+   * @param receiver The receiver of packed addresses
+   * @param errors   The receiver of errors
+   *
+   * @return The number of invalid lines
+   */
+
+  public static long parseInto(
+    final ByteBuffer buffer,
+    final LongConsumer receiver,
+    final MACParseErrorReceiverType errors)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    Objects.requireNonNull(receiver, "receiver");
+    Objects.requireNonNull(errors, "errors");
+    return MACBulkParsing.parseBuffer(buffer, receiver, errors);
+  }
+
+  /**
+   * Parse newline-separated ASCII addresses from the given file. The file
+   * is memory-mapped rather than read. Blank lines are ignored, and invalid
+   * lines are skipped.
+   *
+   * @param file     The file
+   * @param receiver The receiver of packed addresses
+   *
+   * @return The number of invalid lines
+   *
+   * @throws IOException On I/O errors
+   * @see #parseAll(Path, LongConsumer, MACParseErrorReceiverType)
+   */
+
+  public static long parseAll(
+    final Path file,
+    final LongConsumer receiver)
+    throws IOException
+  {
+    return parseAll(file, receiver, (line, result) -> {
+
+    });
+  }
+
+  /**
+   * Parse newline-separated ASCII addresses from the given file. The file
+   * is memory-mapped rather than read, and is processed in windows that
+   * each end on a line boundary. Blank lines are ignored, and invalid lines
+   * are passed to the given error receiver. The addresses can be written in
+   * any of the notations described by {@link MACNotation}.
+   *
+   * @param file     The file
+   * @param receiver The receiver of packed addresses
+   * @param errors   The receiver of errors
+   *
+   * @return The number of invalid lines
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static long parseAll(
+    final Path file,
+    final LongConsumer receiver,
+    final MACParseErrorReceiverType errors)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(receiver, "receiver");
+    Objects.requireNonNull(errors, "errors");
+    return MACBulkParsing.parseFile(file, receiver, errors);
+  }
+
   /**
    * Parse an organization value, such as "C419D1".
    *
@@ -204,30 +634,73 @@ public final class MACAddresses
 
   public static MACAddress parseOrganization(
     final String text)
+  {
+    final var result = tryParseOrganizationPacked(text);
+    if (MACParseStatus.isError(result)) {
+      throw new IllegalArgumentException(
+        parseOrganizationErrorMessage(result, text)
+      );
+    }
+    return MACPacked.unpack(result);
+  }
+
+  /**
+   * Parse a prefix. A prefix is either an address in any of the notations
+   * accepted by {@link #parsePacked(CharSequence)} followed by a slash and a
+   * decimal prefix length, such as {@code 52:54:00:00:00:00/28}, or an
+   * organization identifier such as {@code C419D1}, which denotes a 24-bit
+   * prefix.
+   *
+   * @param text The text
+   *
+   * @return A prefix
+   *
+   * @throws IllegalArgumentException If the text is not a valid prefix
+   */
+
+  public static MACPrefix parsePrefix(
+    final CharSequence text)
+    throws IllegalArgumentException
   {
     Objects.requireNonNull(text, "text");
 
-    final var matcher = VALID_ORGANIZATION.matcher(text.trim());
-    if (matcher.matches()) {
-      final var base = Integer.parseInt(matcher.group(1), 16);
-      final var o0 = (base & 0x00ff0000) >>> 16;
-      final var o1 = (base & 0x0000ff00) >>> 8;
-      final var o2 = (base & 0x000000ff);
-      return MACAddress.builder()
-        .setOctet0(o0)
-        .setOctet1(o1)
-        .setOctet2(o2)
-        .setOctet3(0)
-        .setOctet4(0)
-        .setOctet5(0)
-        .build();
+    final var end = text.length();
+    final var slash = MACParsing.indexOf(text, '/');
+    if (slash < 0) {
+      final var organization = tryParseOrganizationPacked(text);
+      if (MACParseStatus.isError(organization)) {
+        throw prefixError(text, statusMessage(organization));
+      }
+      return MACPrefix.of(organization, 24);
+    }
+
+    final var address = tryParsePacked(text, 0, slash);
+    if (MACParseStatus.isError(address)) {
+      throw prefixError(text, statusMessage(address));
     }
 
-    throw new IllegalArgumentException(
+    final var length = MACParsing.scanPrefixLength(text, slash + 1, end);
+    if (length < 0) {
+      throw prefixError(text, RESOURCES.getString("statusPrefixLength"));
+    }
+
+    final var suffixMask = (1L << (48 - length)) - 1L;
+    if ((address & suffixMask) != 0L) {
+      throw prefixError(text, RESOURCES.getString("statusPrefixBits"));
+    }
+    return MACPrefix.of(address, length);
+  }
+
+  private static IllegalArgumentException prefixError(
+    final CharSequence text,
+    final String problem)
+  {
+    return new IllegalArgumentException(
       MessageFormat.format(
-        RESOURCES.getString("errorOrg"),
-        VALID_ORGANIZATION,
-        text
+        RESOURCES.getString("errorPrefix"),
+        VALID_PREFIX,
+        text,
+        problem
       )
     );
   }
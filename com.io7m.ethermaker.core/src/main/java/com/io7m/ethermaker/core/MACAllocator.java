@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe allocator of unique addresses.
+ *
+ * The allocator walks the indices of a {@link MACPermutation} using a single
+ * shared cursor. Rather than advancing the cursor once per address, each
+ * thread reserves a block of consecutive indices with one atomic increment
+ * and then allocates from that block without any further synchronization.
+ * Because every index is reserved by exactly one thread, and the permutation
+ * maps distinct indices to distinct addresses, every address returned by an
+ * allocator is unique across all threads.
+ *
+ * Indices left unused in a thread's block when the thread stops allocating
+ * are never handed out to any other thread.
+ */
+
+public final class MACAllocator
+{
+  private final MACPermutation permutation;
+  private final int blockSize;
+  private final AtomicLong cursor;
+  private final ThreadLocal<Block> blocks;
+
+  private MACAllocator(
+    final MACPermutation inPermutation,
+    final int inBlockSize,
+    final long inStart)
+  {
+    this.permutation = inPermutation;
+    this.blockSize = inBlockSize;
+    this.cursor = new AtomicLong(inStart);
+    this.blocks = ThreadLocal.withInitial(Block::new);
+  }
+
+  /**
+   * Create a new allocator.
+   *
+   * @param permutation The permutation that produces addresses
+   * @param blockSize   The number of indices reserved by a thread at a time
+   * @param start       The first permutation index
+   *
+   * @return A new allocator
+   */
+
+  public static MACAllocator create(
+    final MACPermutation permutation,
+    final int blockSize,
+    final long start)
+  {
+    Objects.requireNonNull(permutation, "permutation");
+    RangeCheck.checkGreaterEqualInteger(
+      blockSize,
+      "Block size",
+      1,
+      "Minimum block size"
+    );
+    RangeCheck.checkGreaterEqualLong(start, "Start index", 0L, "Minimum index");
+    RangeCheck.checkLessEqualLong(
+      start,
+      "Start index",
+      permutation.size(),
+      "Addresses available"
+    );
+    return new MACAllocator(permutation, blockSize, start);
+  }
+
+  /**
+   * @return The permutation that produces addresses
+   */
+
+  public MACPermutation permutation()
+  {
+    return this.permutation;
+  }
+
+  /**
+   * @return The number of indices reserved by a thread at a time
+   */
+
+  public int blockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * @return The number of indices that have not yet been reserved by any thread
+   */
+
+  public long unreserved()
+  {
+    return Math.max(0L, this.permutation.size() - this.cursor.get());
+  }
+
+  /**
+   * Allocate an address.
+   *
+   * @return A packed address that has not been returned by this allocator before
+   *
+   * @throws IllegalStateException If the allocator is exhausted
+   */
+
+  public long allocate()
+    throws IllegalStateException
+  {
+    final var block = this.blocks.get();
+    if (block.next == block.end) {
+      this.reserve(block);
+    }
+    final var index = block.next;
+    ++block.next;
+    return this.permutation.address(index);
+  }
+
+  /**
+   * Allocate {@code length} addresses into the given array, starting at
+   * {@code offset}.
+   *
+   * @param output The output array
+   * @param offset The starting offset
+   * @param length The number of addresses
+   *
+   * @throws IllegalStateException If the allocator is exhausted before all
+   *                               addresses could be allocated
+   */
+
+  public void allocateInto(
+    final long[] output,
+    final int offset,
+    final int length)
+    throws IllegalStateException
+  {
+    Objects.requireNonNull(output, "output");
+    Objects.checkFromIndexSize(offset, length, output.length);
+
+    final var block = this.blocks.get();
+    int written = 0;
+    while (written < length) {
+      if (block.next == block.end) {
+        this.reserve(block);
+      }
+      final var available =
+        (int) Math.min(block.end - block.next, length - written);
+      this.permutation.addressesInto(
+        block.next,
+        output,
+        offset + written,
+        available
+      );
+      block.next += available;
+      written += available;
+    }
+  }
+
+  private void reserve(
+    final Block block)
+  {
+    final var size = this.permutation.size();
+    final var start = this.cursor.getAndAdd(this.blockSize);
+    if (start >= size || start < 0L) {
+      throw new IllegalStateException(
+        "All %d addresses have been allocated".formatted(Long.valueOf(size))
+      );
+    }
+    block.next = start;
+    block.end = Math.min(size, start + this.blockSize);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACAllocator 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+
+  private static final class Block
+  {
+    private long next;
+    private long end;
+
+    Block()
+    {
+
+    }
+  }
+}
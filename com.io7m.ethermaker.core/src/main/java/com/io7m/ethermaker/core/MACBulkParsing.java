@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * Line-oriented parsing of ASCII address lists held in byte buffers and
+ * memory-mapped files.
+ */
+
+final class MACBulkParsing
+{
+  /*
+   * Files are mapped in windows of at most this size. Each window ends
+   * on a line boundary, so no line is ever split across two windows.
+   */
+
+  private static final long WINDOW_SIZE = 256L * 1024L * 1024L;
+
+  private final LongConsumer receiver;
+  private final MACParseErrorReceiverType errors;
+  private long line;
+  private long rejected;
+
+  private MACBulkParsing(
+    final LongConsumer inReceiver,
+    final MACParseErrorReceiverType inErrors)
+  {
+    this.receiver = inReceiver;
+    this.errors = inErrors;
+  }
+
+  static long parseBuffer(
+    final ByteBuffer buffer,
+    final LongConsumer receiver,
+    final MACParseErrorReceiverType errors)
+  {
+    final var parser = new MACBulkParsing(receiver, errors);
+    parser.parseRange(buffer, buffer.position(), buffer.limit());
+    buffer.position(buffer.limit());
+    return parser.rejected;
+  }
+
+  static long parseFile(
+    final Path file,
+    final LongConsumer receiver,
+    final MACParseErrorReceiverType errors)
+    throws IOException
+  {
+    final var parser = new MACBulkParsing(receiver, errors);
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var size = channel.size();
+
+      long offset = 0L;
+      while (offset < size) {
+        final var length = Math.min(WINDOW_SIZE, size - offset);
+        final var window =
+          channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+
+        int end = (int) length;
+        if (offset + length < size) {
+          end = lastLineEnd(window, end);
+        }
+        parser.parseRange(window, 0, end);
+        offset += end;
+      }
+    }
+    return parser.rejected;
+  }
+
+  /**
+   * @return The index after the last newline in the window, or the end of
+   * the window if it contains no newline at all
+   */
+
+  private static int lastLineEnd(
+    final ByteBuffer window,
+    final int end)
+  {
+    for (int index = end - 1; index >= 0; --index) {
+      if (window.get(index) == '\n') {
+        return index + 1;
+      }
+    }
+    return end;
+  }
+
+  private void parseRange(
+    final ByteBuffer buffer,
+    final int start,
+    final int end)
+  {
+    int lineStart = start;
+    for (int index = start; index < end; ++index) {
+      if (buffer.get(index) == '\n') {
+        this.parseLine(buffer, lineStart, index);
+        lineStart = index + 1;
+      }
+    }
+    if (lineStart < end) {
+      this.parseLine(buffer, lineStart, end);
+    }
+  }
+
+  private void parseLine(
+    final ByteBuffer buffer,
+    final int start,
+    final int end)
+  {
+    ++this.line;
+
+    final var result = MACParsing.scanAddress(buffer, start, end);
+    if (result >= 0L) {
+      this.receiver.accept(result);
+      return;
+    }
+    if (MACParsing.isBlank(buffer, start, end)) {
+      return;
+    }
+    ++this.rejected;
+    this.errors.receive(this.line, result);
+  }
+}
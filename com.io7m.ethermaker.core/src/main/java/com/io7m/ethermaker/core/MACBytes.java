@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Functions that read and write addresses in their six-byte wire format,
+ * with octet 0 first. The functions operate on packed addresses, read
+ * directly from the given storage without copying, and do not allocate.
+ * Byte buffers are always read and written in network byte order,
+ * regardless of their configured {@link ByteBuffer#order()}.
+ *
+ * @see MACPacked
+ */
+
+public final class MACBytes
+{
+  /**
+   * The length of an address in bytes.
+   */
+
+  public static final int ADDRESS_BYTES = 6;
+
+  /**
+   * The offset of the destination address within an Ethernet frame header.
+   */
+
+  public static final int ETHERNET_DESTINATION_OFFSET = 0;
+
+  /**
+   * The offset of the source address within an Ethernet frame header.
+   */
+
+  public static final int ETHERNET_SOURCE_OFFSET = 6;
+
+  private static final VarHandle INT_VIEW =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_VIEW =
+    MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+  private MACBytes()
+  {
+
+  }
+
+  private static long combine(
+    final short high,
+    final int low)
+  {
+    return (((long) high & 0xffffL) << 32) | ((long) low & 0xffff_ffffL);
+  }
+
+  /**
+   * Read an address from the given array.
+   *
+   * @param data   The array
+   * @param offset The offset of octet 0
+   *
+   * @return A packed address
+   */
+
+  public static long getPacked(
+    final byte[] data,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, ADDRESS_BYTES, data.length);
+    return combine(
+      (short) SHORT_VIEW.get(data, offset),
+      (int) INT_VIEW.get(data, offset + 2)
+    );
+  }
+
+  /**
+   * Write an address to the given array.
+   *
+   * @param address The packed address
+   * @param data    The array
+   * @param offset  The offset of octet 0
+   *
+   * @return The offset immediately after the written bytes
+   */
+
+  public static int putInto(
+    final long address,
+    final byte[] data,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, ADDRESS_BYTES, data.length);
+    SHORT_VIEW.set(data, offset, (short) (address >>> 32));
+    INT_VIEW.set(data, offset + 2, (int) address);
+    return offset + ADDRESS_BYTES;
+  }
+
+  /**
+   * Read an address from the given buffer at an absolute index. The
+   * buffer's position is not modified.
+   *
+   * @param buffer The buffer
+   * @param index  The index of octet 0
+   *
+   * @return A packed address
+   */
+
+  public static long getPacked(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.checkFromIndexSize(index, ADDRESS_BYTES, buffer.limit());
+    final var high = buffer.getShort(index);
+    final var low = buffer.getInt(index + 2);
+    if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+      return combine(high, low);
+    }
+    return combine(Short.reverseBytes(high), Integer.reverseBytes(low));
+  }
+
+  /**
+   * Read an address from the given buffer at its current position, and
+   * advance the position past the address.
+   *
+   * @param buffer The buffer
+   *
+   * @return A packed address
+   *
+   * @throws BufferUnderflowException If fewer than {@link #ADDRESS_BYTES} bytes remain
+   */
+
+  public static long getPacked(
+    final ByteBuffer buffer)
+    throws BufferUnderflowException
+  {
+    if (buffer.remaining() < ADDRESS_BYTES) {
+      throw new BufferUnderflowException();
+    }
+    final var position = buffer.position();
+    final var address = getPacked(buffer, position);
+    buffer.position(position + ADDRESS_BYTES);
+    return address;
+  }
+
+  /**
+   * Write an address to the given buffer at an absolute index. The
+   * buffer's position is not modified.
+   *
+   * @param address The packed address
+   * @param buffer  The buffer
+   * @param index   The index of octet 0
+   *
+   * @return The index immediately after the written bytes
+   */
+
+  public static int putInto(
+    final long address,
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.checkFromIndexSize(index, ADDRESS_BYTES, buffer.limit());
+    final var high = (short) (address >>> 32);
+    final var low = (int) address;
+    if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+      buffer.putShort(index, high);
+      buffer.putInt(index + 2, low);
+    } else {
+      buffer.putShort(index, Short.reverseBytes(high));
+      buffer.putInt(index + 2, Integer.reverseBytes(low));
+    }
+    return index + ADDRESS_BYTES;
+  }
+
+  /**
+   * Write an address to the given buffer at its current position, and
+   * advance the position past the address.
+   *
+   * @param address The packed address
+   * @param buffer  The buffer
+   *
+   * @throws BufferOverflowException If fewer than {@link #ADDRESS_BYTES} bytes remain
+   */
+
+  public static void putInto(
+    final long address,
+    final ByteBuffer buffer)
+    throws BufferOverflowException
+  {
+    if (buffer.remaining() < ADDRESS_BYTES) {
+      throw new BufferOverflowException();
+    }
+    buffer.position(putInto(address, buffer, buffer.position()));
+  }
+
+  /**
+   * @param address The address
+   *
+   * @return The six bytes of the address, octet 0 first
+   */
+
+  public static byte[] toBytes(
+    final MACAddressType address)
+  {
+    final var data = new byte[ADDRESS_BYTES];
+    putInto(MACPacked.pack(address), data, 0);
+    return data;
+  }
+
+  /**
+   * @param data   The array
+   * @param offset The offset of octet 0
+   *
+   * @return The address read from the given array
+   */
+
+  public static MACAddress fromBytes(
+    final byte[] data,
+    final int offset)
+  {
+    return MACPacked.unpack(getPacked(data, offset));
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * A random number generator that draws large blocks of bytes from an
+ * underlying {@link SecureRandom} and slices them into values.
+ *
+ * Each thread that uses the pool owns two blocks: one that is being consumed,
+ * and one that is being filled by a background thread. When the consumed
+ * block runs out, the blocks are swapped and the exhausted block is handed to
+ * the background thread to be refilled. The underlying generator is therefore
+ * called once per block rather than once per value.
+ *
+ * The pool must be closed when it is no longer required in order to stop the
+ * background thread.
+ */
+
+public final class MACEntropyPool implements RandomGenerator, AutoCloseable
+{
+  /**
+   * The default block size in bytes.
+   */
+
+  public static final int DEFAULT_BLOCK_SIZE = 65536;
+
+  private static final int MINIMUM_BLOCK_SIZE = 8;
+  private static final AtomicInteger POOL_IDS = new AtomicInteger(0);
+
+  private static final VarHandle LONG_VIEW =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_VIEW =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_VIEW =
+    MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+  private final SecureRandom source;
+  private final int blockSize;
+  private final ExecutorService refills;
+  private final ThreadLocal<Blocks> blocks;
+  private volatile boolean closed;
+
+  private MACEntropyPool(
+    final SecureRandom inSource,
+    final int inBlockSize)
+  {
+    this.source = inSource;
+    this.blockSize = inBlockSize;
+
+    final var poolId = POOL_IDS.incrementAndGet();
+    this.refills = Executors.newSingleThreadExecutor(runnable -> {
+      final var thread = new Thread(runnable);
+      thread.setName("com.io7m.ethermaker.entropy[%d]".formatted(Integer.valueOf(poolId)));
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.blocks = ThreadLocal.withInitial(this::createBlocks);
+  }
+
+  /**
+   * Create a new pool using the default block size.
+   *
+   * @param source The underlying generator
+   *
+   * @return A new pool
+   */
+
+  public static MACEntropyPool create(
+    final SecureRandom source)
+  {
+    return create(source, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Create a new pool.
+   *
+   * @param source    The underlying generator
+   * @param blockSize The number of bytes requested from the underlying
+   *                  generator at a time
+   *
+   * @return A new pool
+   */
+
+  public static MACEntropyPool create(
+    final SecureRandom source,
+    final int blockSize)
+  {
+    Objects.requireNonNull(source, "source");
+    RangeCheck.checkGreaterEqualInteger(
+      blockSize,
+      "Block size",
+      MINIMUM_BLOCK_SIZE,
+      "Minimum block size"
+    );
+    return new MACEntropyPool(source, blockSize);
+  }
+
+  /**
+   * @return The number of bytes requested from the underlying generator at a time
+   */
+
+  public int blockSize()
+  {
+    return this.blockSize;
+  }
+
+  @Override
+  public long nextLong()
+  {
+    final var local = this.blocks.get();
+    local.reserve(Long.BYTES);
+    final var value = (long) LONG_VIEW.get(local.current, local.position);
+    local.position += Long.BYTES;
+    return value;
+  }
+
+  @Override
+  public int nextInt()
+  {
+    final var local = this.blocks.get();
+    local.reserve(Integer.BYTES);
+    final var value = (int) INT_VIEW.get(local.current, local.position);
+    local.position += Integer.BYTES;
+    return value;
+  }
+
+  /**
+   * Take 48 random bits from the pool. This consumes six bytes of the
+   * current block, as opposed to the eight bytes consumed by
+   * {@link #nextLong()}.
+   *
+   * @return A value with 48 random low bits and zero high bits
+   */
+
+  public long next48()
+  {
+    final var local = this.blocks.get();
+    local.reserve(6);
+
+    final var bytes = local.current;
+    final var position = local.position;
+    final var high = (short) SHORT_VIEW.get(bytes, position) & 0xffffL;
+    final var low = (int) INT_VIEW.get(bytes, position + 2) & 0xffff_ffffL;
+    local.position = position + 6;
+    return (high << 32) | low;
+  }
+
+  @Override
+  public void close()
+  {
+    this.closed = true;
+    this.refills.shutdownNow();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACEntropyPool 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+
+  private Blocks createBlocks()
+  {
+    this.checkNotClosed();
+
+    final var initial = new byte[this.blockSize];
+    this.source.nextBytes(initial);
+    return new Blocks(initial, this.refill(new byte[this.blockSize]));
+  }
+
+  private Future<byte[]> refill(
+    final byte[] block)
+  {
+    try {
+      return this.refills.submit(() -> {
+        this.source.nextBytes(block);
+        return block;
+      });
+    } catch (final RejectedExecutionException e) {
+      throw new IllegalStateException("Entropy pool is closed", e);
+    }
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed) {
+      throw new IllegalStateException("Entropy pool is closed");
+    }
+  }
+
+  private final class Blocks
+  {
+    private byte[] current;
+    private int position;
+    private Future<byte[]> pending;
+
+    Blocks(
+      final byte[] inCurrent,
+      final Future<byte[]> inPending)
+    {
+      this.current = inCurrent;
+      this.position = 0;
+      this.pending = inPending;
+    }
+
+    void reserve(
+      final int size)
+    {
+      if (this.position + size > this.current.length) {
+        this.swap();
+      }
+    }
+
+    private void swap()
+    {
+      MACEntropyPool.this.checkNotClosed();
+
+      final var exhausted = this.current;
+      final byte[] next;
+      try {
+        next = this.pending.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted waiting for entropy", e);
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException("Failed to gather entropy", e.getCause());
+      }
+
+      this.current = next;
+      this.position = 0;
+      this.pending = MACEntropyPool.this.refill(exhausted);
+    }
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+import java.util.Objects;
+
+/**
+ * Table-driven formatting of packed MAC addresses. The formatting functions
+ * that write into caller-supplied buffers do not allocate.
+ *
+ * @see MACPacked
+ */
+
+public final class MACFormatting
+{
+  /**
+   * The length of a formatted address in the colon notation, such as
+   * {@code 58:9c:fc:10:93:1f}.
+   *
+   * @see MACNotation#length()
+   */
+
+  public static final int ADDRESS_LENGTH = 17;
+
+  /**
+   * The length of a formatted organization, such as {@code 589cfc}.
+   */
+
+  public static final int ORGANIZATION_LENGTH = 6;
+
+  private static final char[] DIGITS =
+    "0123456789abcdef".toCharArray();
+
+  /*
+   * The two lowercase hex digits of each possible octet value, stored
+   * adjacently.
+   */
+
+  private static final char[] PAIRS = pairTable();
+
+  private MACFormatting()
+  {
+
+  }
+
+  private static char[] pairTable()
+  {
+    final var table = new char[512];
+    for (int octet = 0; octet < 256; ++octet) {
+      table[octet << 1] = DIGITS[octet >>> 4];
+      table[(octet << 1) + 1] = DIGITS[octet & 0xf];
+    }
+    return table;
+  }
+
+  /**
+   * Format the given address into the given array using the colon notation.
+   *
+   * @param address The packed address
+   * @param output  The output array
+   * @param offset  The offset at which to start writing
+   *
+   * @return The offset immediately after the written characters
+   */
+
+  public static int formatInto(
+    final long address,
+    final char[] output,
+    final int offset)
+  {
+    return formatInto(address, MACNotation.COLON, output, offset);
+  }
+
+  /**
+   * Format the given address into the given array.
+   *
+   * @param address  The packed address
+   * @param notation The notation
+   * @param output   The output array
+   * @param offset   The offset at which to start writing
+   *
+   * @return The offset immediately after the written characters
+   */
+
+  public static int formatInto(
+    final long address,
+    final MACNotation notation,
+    final char[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, notation.length(), output.length);
+
+    final var separator = notation.separator();
+    int index = offset;
+    for (int octet = 0; octet < 6; ++octet) {
+      if (notation.hasSeparatorBefore(octet)) {
+        output[index] = separator;
+        ++index;
+      }
+      final var pair = MACPacked.octet(address, octet) << 1;
+      output[index] = PAIRS[pair];
+      output[index + 1] = PAIRS[pair + 1];
+      index += 2;
+    }
+    return index;
+  }
+
+  /**
+   * Format the given address into the given array as ASCII bytes using the
+   * colon notation.
+   *
+   * @param address The packed address
+   * @param output  The output array
+   * @param offset  The offset at which to start writing
+   *
+   * @return The offset immediately after the written bytes
+   */
+
+  public static int formatInto(
+    final long address,
+    final byte[] output,
+    final int offset)
+  {
+    return formatInto(address, MACNotation.COLON, output, offset);
+  }
+
+  /**
+   * Format the given address into the given array as ASCII bytes.
+   *
+   * @param address  The packed address
+   * @param notation The notation
+   * @param output   The output array
+   * @param offset   The offset at which to start writing
+   *
+   * @return The offset immediately after the written bytes
+   */
+
+  public static int formatInto(
+    final long address,
+    final MACNotation notation,
+    final byte[] output,
+    final int offset)
+  {
+    Objects.checkFromIndexSize(offset, notation.length(), output.length);
+
+    final var separator = (byte) notation.separator();
+    int index = offset;
+    for (int octet = 0; octet < 6; ++octet) {
+      if (notation.hasSeparatorBefore(octet)) {
+        output[index] = separator;
+        ++index;
+      }
+      final var pair = MACPacked.octet(address, octet) << 1;
+      output[index] = (byte) PAIRS[pair];
+      output[index + 1] = (byte) PAIRS[pair + 1];
+      index += 2;
+    }
+    return index;
+  }
+
+  /**
+   * Append the given address to the given builder using the colon notation.
+   *
+   * @param address The packed address
+   * @param output  The output builder
+   *
+   * @return {@code output}
+   */
+
+  public static StringBuilder appendTo(
+    final long address,
+    final StringBuilder output)
+  {
+    return appendTo(address, MACNotation.COLON, output);
+  }
+
+  /**
+   * Append the given address to the given builder.
+   *
+   * @param address  The packed address
+   * @param notation The notation
+   * @param output   The output builder
+   *
+   * @return {@code output}
+   */
+
+  public static StringBuilder appendTo(
+    final long address,
+    final MACNotation notation,
+    final StringBuilder output)
+  {
+    Objects.requireNonNull(notation, "notation");
+    Objects.requireNonNull(output, "output");
+
+    final var separator = notation.separator();
+    for (int octet = 0; octet < 6; ++octet) {
+      if (notation.hasSeparatorBefore(octet)) {
+        output.append(separator);
+      }
+      final var pair = MACPacked.octet(address, octet) << 1;
+      output.append(PAIRS[pair]);
+      output.append(PAIRS[pair + 1]);
+    }
+    return output;
+  }
+
+  /**
+   * Append the organization of the given address to the given builder.
+   *
+   * @param address The packed address
+   * @param output  The output builder
+   *
+   * @return {@code output}
+   */
+
+  public static StringBuilder appendOrganizationTo(
+    final long address,
+    final StringBuilder output)
+  {
+    Objects.requireNonNull(output, "output");
+
+    for (int octet = 0; octet < 3; ++octet) {
+      final var pair = MACPacked.octet(address, octet) << 1;
+      output.append(PAIRS[pair]);
+      output.append(PAIRS[pair + 1]);
+    }
+    return output;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The given address as a string, such as {@code 58:9c:fc:10:93:1f}
+   */
+
+  public static String format(
+    final long address)
+  {
+    return format(address, MACNotation.COLON);
+  }
+
+  /**
+   * @param address  The packed address
+   * @param notation The notation
+   *
+   * @return The given address as a string in the given notation
+   */
+
+  public static String format(
+    final long address,
+    final MACNotation notation)
+  {
+    final var text = new char[notation.length()];
+    formatInto(address, notation, text, 0);
+    return String.valueOf(text);
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The organization of the given address as a string, such as {@code 589cfc}
+   */
+
+  public static String formatOrganization(
+    final long address)
+  {
+    final var text = new char[ORGANIZATION_LENGTH];
+    for (int octet = 0; octet < 3; ++octet) {
+      final var pair = MACPacked.octet(address, octet) << 1;
+      text[octet << 1] = PAIRS[pair];
+      text[(octet << 1) + 1] = PAIRS[pair + 1];
+    }
+    return String.valueOf(text);
+  }
+}
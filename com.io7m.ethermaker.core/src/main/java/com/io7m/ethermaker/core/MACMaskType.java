@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * A pair of masks over packed addresses that constrains generated
+ * addresses. Each of the 48 address bits is either <i>free</i>, meaning
+ * that it is taken from a random source, or <i>fixed</i>, meaning that it
+ * is always set to the value given in {@link #fixedBits()}.
+ *
+ * @see MACPacked
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public abstract class MACMaskType
+{
+  /**
+   * @return The mask of bits that are free to vary
+   */
+
+  public abstract long freeBits();
+
+  /**
+   * @return The values of the fixed bits; always zero for free bits
+   */
+
+  public abstract long fixedBits();
+
+  /**
+   * Constrain the given value with this mask.
+   *
+   * @param value The input value, typically random bits
+   *
+   * @return A packed address
+   */
+
+  public final long apply(
+    final long value)
+  {
+    return (value & this.freeBits()) | this.fixedBits();
+  }
+
+  /**
+   * @return The number of free bits
+   */
+
+  public final int freeBitCount()
+  {
+    return Long.bitCount(this.freeBits());
+  }
+
+  /**
+   * @return The number of distinct addresses that the mask can produce
+   */
+
+  public final long size()
+  {
+    return 1L << this.freeBitCount();
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if this mask can produce the given address
+   */
+
+  public final boolean contains(
+    final long address)
+  {
+    return (address & ~this.freeBits()) == this.fixedBits();
+  }
+
+  /**
+   * Fix the given bits to the given values.
+   *
+   * @param bits  The bits to fix
+   * @param value The values of the bits
+   *
+   * @return A mask with the given bits fixed
+   */
+
+  public final MACMask withFixed(
+    final long bits,
+    final long value)
+  {
+    final var fixBits = bits & MACPacked.ADDRESS_MASK;
+    return MACMask.builder()
+      .setFreeBits(this.freeBits() & ~fixBits)
+      .setFixedBits((this.fixedBits() & ~fixBits) | (value & fixBits))
+      .build();
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  protected final void checkPreconditions()
+  {
+    if ((this.freeBits() & ~MACPacked.ADDRESS_MASK) != 0L) {
+      throw new IllegalArgumentException(
+        "Free bits 0x%x exceed 48 bits".formatted(Long.valueOf(this.freeBits()))
+      );
+    }
+    if ((this.fixedBits() & ~MACPacked.ADDRESS_MASK) != 0L) {
+      throw new IllegalArgumentException(
+        "Fixed bits 0x%x exceed 48 bits".formatted(Long.valueOf(this.fixedBits()))
+      );
+    }
+    if ((this.freeBits() & this.fixedBits()) != 0L) {
+      throw new IllegalArgumentException(
+        "Fixed bits 0x%x overlap free bits 0x%x".formatted(
+          Long.valueOf(this.fixedBits()),
+          Long.valueOf(this.freeBits()))
+      );
+    }
+  }
+}
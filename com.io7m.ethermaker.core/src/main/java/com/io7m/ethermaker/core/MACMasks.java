@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+/**
+ * Functions over address masks.
+ */
+
+public final class MACMasks
+{
+  private static final MACMask UNCONSTRAINED =
+    MACMask.builder()
+      .setFreeBits(MACPacked.ADDRESS_MASK)
+      .setFixedBits(0L)
+      .build();
+
+  private MACMasks()
+  {
+
+  }
+
+  /**
+   * @return A mask in which every bit is free
+   */
+
+  public static MACMask unconstrained()
+  {
+    return UNCONSTRAINED;
+  }
+
+  /**
+   * @param organization A packed address whose OUI octets name the organization
+   *
+   * @return A mask that fixes the OUI octets to the given organization
+   */
+
+  public static MACMask organization(
+    final long organization)
+  {
+    return UNCONSTRAINED.withFixed(MACPacked.ORGANIZATION_MASK, organization);
+  }
+
+  /**
+   * @param mask The mask
+   *
+   * @return The given mask with the multicast bit cleared
+   */
+
+  public static MACMask unicast(
+    final MACMaskType mask)
+  {
+    return mask.withFixed(MACPacked.MULTICAST_BIT, 0L);
+  }
+
+  /**
+   * @param mask The mask
+   *
+   * @return The given mask with the multicast bit set
+   */
+
+  public static MACMask multicast(
+    final MACMaskType mask)
+  {
+    return mask.withFixed(MACPacked.MULTICAST_BIT, MACPacked.MULTICAST_BIT);
+  }
+
+  /**
+   * @param mask The mask
+   *
+   * @return The given mask with the locally administered bit set
+   */
+
+  public static MACMask locallyAdministered(
+    final MACMaskType mask)
+  {
+    return mask.withFixed(MACPacked.LOCAL_BIT, MACPacked.LOCAL_BIT);
+  }
+
+  /**
+   * @param mask The mask
+   *
+   * @return The given mask with the locally administered bit cleared
+   */
+
+  public static MACMask ouiEnforced(
+    final MACMaskType mask)
+  {
+    return mask.withFixed(MACPacked.LOCAL_BIT, 0L);
+  }
+}
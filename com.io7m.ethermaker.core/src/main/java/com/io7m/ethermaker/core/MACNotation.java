@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+/**
+ * The textual notations in which MAC addresses can be written.
+ */
+
+public enum MACNotation
+{
+  /**
+   * The colon-separated notation, such as {@code 58:9c:fc:10:93:1f}.
+   */
+
+  COLON(':', 1),
+
+  /**
+   * The hyphen-separated notation, such as {@code 58-9c-fc-10-93-1f}.
+   */
+
+  HYPHEN('-', 1),
+
+  /**
+   * The dotted notation used by Cisco, such as {@code 589c.fc10.931f}.
+   */
+
+  DOTTED('.', 2),
+
+  /**
+   * The bare hexadecimal notation, such as {@code 589cfc10931f}.
+   */
+
+  BARE('\0', 6);
+
+  private final char separator;
+  private final int octetsPerGroup;
+  private final int length;
+
+  MACNotation(
+    final char inSeparator,
+    final int inOctetsPerGroup)
+  {
+    this.separator = inSeparator;
+    this.octetsPerGroup = inOctetsPerGroup;
+    this.length = 12 + ((6 / inOctetsPerGroup) - 1);
+  }
+
+  /**
+   * @return The separator character, or {@code '\0'} if the notation has no separators
+   */
+
+  public char separator()
+  {
+    return this.separator;
+  }
+
+  /**
+   * @return The number of octets written between each separator
+   */
+
+  public int octetsPerGroup()
+  {
+    return this.octetsPerGroup;
+  }
+
+  /**
+   * @return The length of an address written in this notation
+   */
+
+  public int length()
+  {
+    return this.length;
+  }
+
+  /**
+   * @param octet The octet index
+   *
+   * @return {@code true} if a separator is written before the given octet
+   */
+
+  boolean hasSeparatorBefore(
+    final int octet)
+  {
+    return octet > 0 && octet % this.octetsPerGroup == 0;
+  }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.util.Objects;
+
+/**
+ * Functions over MAC addresses packed into the low 48 bits of a {@code long}.
+ * Octet 0 occupies bits 40-47, and octet 5 occupies bits 0-7. The upper
+ * 16 bits of a valid packed address are always zero.
+ */
+
+public final class MACPacked
+{
+  /**
+   * The mask covering all 48 bits of a packed address.
+   */
+
+  public static final long ADDRESS_MASK =
+    0xffff_ffff_ffffL;
+
+  /**
+   * The multicast bit of a packed address.
+   */
+
+  public static final long MULTICAST_BIT =
+    0x0100_0000_0000L;
+
+  /**
+   * The locally administered bit of a packed address.
+   */
+
+  public static final long LOCAL_BIT =
+    0x0200_0000_0000L;
+
+  /**
+   * The mask covering the organization (OUI) octets of a packed address.
+   */
+
+  public static final long ORGANIZATION_MASK =
+    0xffff_ff00_0000L;
+
+  /**
+   * The mask covering the NIC-specific octets of a packed address.
+   */
+
+  public static final long NIC_MASK =
+    0x0000_00ff_ffffL;
+
+  /**
+   * The broadcast address.
+   */
+
+  public static final long BROADCAST =
+    ADDRESS_MASK;
+
+  private MACPacked()
+  {
+
+  }
+
+  /**
+   * Pack the given octets into an address. Only the low 8 bits of each
+   * octet value are used.
+   *
+   * @param o0 Octet 0
+   * @param o1 Octet 1
+   * @param o2 Octet 2
+   * @param o3 Octet 3
+   * @param o4 Octet 4
+   * @param o5 Octet 5
+   *
+   * @return A packed address
+   */
+
+  public static long of(
+    final int o0,
+    final int o1,
+    final int o2,
+    final int o3,
+    final int o4,
+    final int o5)
+  {
+    long r = (long) (o0 & 0xff) << 40;
+    r |= (long) (o1 & 0xff) << 32;
+    r |= (long) (o2 & 0xff) << 24;
+    r |= (long) (o3 & 0xff) << 16;
+    r |= (long) (o4 & 0xff) << 8;
+    r |= (long) (o5 & 0xff);
+    return r;
+  }
+
+  /**
+   * Pack the given address.
+   *
+   * @param address The address
+   *
+   * @return A packed address
+   */
+
+  public static long pack(
+    final MACAddressType address)
+  {
+    Objects.requireNonNull(address, "address");
+    return of(
+      address.octet0(),
+      address.octet1(),
+      address.octet2(),
+      address.octet3(),
+      address.octet4(),
+      address.octet5()
+    );
+  }
+
+  /**
+   * Unpack the given address.
+   *
+   * @param address The packed address
+   *
+   * @return An address
+   */
+
+  public static MACAddress unpack(
+    final long address)
+  {
+    return MACAddress.builder()
+      .setOctet0(octet(address, 0))
+      .setOctet1(octet(address, 1))
+      .setOctet2(octet(address, 2))
+      .setOctet3(octet(address, 3))
+      .setOctet4(octet(address, 4))
+      .setOctet5(octet(address, 5))
+      .build();
+  }
+
+  /**
+   * @param address The packed address
+   * @param index   The octet index in the range {@code [0, 5]}
+   *
+   * @return The octet at the given index
+   */
+
+  public static int octet(
+    final long address,
+    final int index)
+  {
+    return (int) (address >>> (40 - (index << 3))) & 0xff;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if the upper 16 bits of the value are zero
+   */
+
+  public static boolean isValid(
+    final long address)
+  {
+    return (address & ~ADDRESS_MASK) == 0L;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The organization identifier as a 24-bit value
+   */
+
+  public static int organization(
+    final long address)
+  {
+    return (int) ((address & ORGANIZATION_MASK) >>> 24);
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The NIC-specific octets as a 24-bit value
+   */
+
+  public static int nic(
+    final long address)
+  {
+    return (int) (address & NIC_MASK);
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if this address is multicast, or {@code false} if it is unicast
+   *
+   * @see MACAddressType#isMulticast()
+   */
+
+  public static boolean isMulticast(
+    final long address)
+  {
+    return (address & MULTICAST_BIT) != 0L;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if this address is locally administered, or {@code false} if it is OUI enforced
+   *
+   * @see MACAddressType#isLocallyAdministered()
+   */
+
+  public static boolean isLocallyAdministered(
+    final long address)
+  {
+    return (address & LOCAL_BIT) != 0L;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if this address is a broadcast address
+   *
+   * @see MACAddressType#isBroadcast()
+   */
+
+  public static boolean isBroadcast(
+    final long address)
+  {
+    return (address & ADDRESS_MASK) == BROADCAST;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The given address as a unicast address
+   */
+
+  public static long asUnicast(
+    final long address)
+  {
+    return address & ~MULTICAST_BIT;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The given address as a multicast address
+   */
+
+  public static long asMulticast(
+    final long address)
+  {
+    return address | MULTICAST_BIT;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The given address as an OUI enforced address
+   */
+
+  public static long asOUIEnforced(
+    final long address)
+  {
+    return address & ~LOCAL_BIT;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return The given address as a locally administered address
+   */
+
+  public static long asLocallyAdministered(
+    final long address)
+  {
+    return address | LOCAL_BIT;
+  }
+}
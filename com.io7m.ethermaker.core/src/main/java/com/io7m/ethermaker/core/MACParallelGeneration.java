@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Functions to generate large numbers of unique addresses in parallel.
+ *
+ * The output is a deterministic function of the mask, the count, and the
+ * state of the given splittable generator, and does not depend on the
+ * parallelism of the fork/join pool. Addresses are generated in fixed-size
+ * chunks, each chunk drawing from its own generator split from the root
+ * generator in chunk order. Chunks are generated concurrently, but are
+ * merged into the output set sequentially in chunk order, so the addresses
+ * that are kept when duplicates occur, and the order in which they are
+ * inserted, are always the same.
+ */
+
+public final class MACParallelGeneration
+{
+  /**
+   * The number of addresses generated by each chunk.
+   */
+
+  public static final int CHUNK_SIZE = 16384;
+
+  private MACParallelGeneration()
+  {
+
+  }
+
+  /**
+   * Generate addresses into the given set until it contains {@code count}
+   * addresses.
+   *
+   * @param mask   The mask that constrains generated addresses
+   * @param random The root generator
+   * @param pool   The pool used to generate chunks
+   * @param output The output set
+   * @param count  The required size of the output set
+   */
+
+  public static void generateInto(
+    final MACMaskType mask,
+    final RandomGenerator.SplittableGenerator random,
+    final ForkJoinPool pool,
+    final MACAddressSetType output,
+    final long count)
+  {
+    Objects.requireNonNull(mask, "mask");
+    Objects.requireNonNull(random, "random");
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(output, "output");
+
+    var available = mask.size();
+    if (mask.contains(MACPacked.BROADCAST)) {
+      available -= 1L;
+    }
+    RangeCheck.checkLessEqualLong(
+      count,
+      "Count",
+      available,
+      "Addresses available within the mask"
+    );
+
+    final var wave = Math.max(1, pool.getParallelism()) * 2;
+    final var tasks = new ArrayList<ForkJoinTask<long[]>>(wave);
+    while (output.size() < count) {
+      final var missing = count - output.size();
+      final var chunks =
+        (int) Math.min(wave, Math.ceilDiv(missing, CHUNK_SIZE));
+
+      tasks.clear();
+      for (int index = 0; index < chunks; ++index) {
+        final var chunkRandom = random.split();
+        tasks.add(pool.submit(() -> generateChunk(mask, chunkRandom)));
+      }
+
+      for (final var task : tasks) {
+        merge(task.join(), output, count);
+      }
+    }
+  }
+
+  private static long[] generateChunk(
+    final MACMaskType mask,
+    final RandomGenerator random)
+  {
+    final var chunk = new long[CHUNK_SIZE];
+    MACAddresses.generateInto(mask, random, chunk, 0, CHUNK_SIZE);
+    return chunk;
+  }
+
+  private static void merge(
+    final long[] chunk,
+    final MACAddressSetType output,
+    final long count)
+  {
+    for (final var address : chunk) {
+      if (output.size() >= count) {
+        return;
+      }
+      output.add(address);
+    }
+  }
+}
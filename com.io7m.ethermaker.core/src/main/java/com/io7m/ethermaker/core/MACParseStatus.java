@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+/**
+ * The status of a non-throwing parse operation. The non-throwing parse
+ * functions return a non-negative packed address on success, or the
+ * negative {@link #code()} of one of the error statuses on failure.
+ *
+ * @see MACAddresses#tryParsePacked(CharSequence)
+ */
+
+public enum MACParseStatus
+{
+  /**
+   * The text was parsed successfully.
+   */
+
+  OK,
+
+  /**
+   * The text (ignoring surrounding whitespace) had the wrong length.
+   */
+
+  ERROR_LENGTH,
+
+  /**
+   * The text contained an unexpected separator character.
+   */
+
+  ERROR_SEPARATOR,
+
+  /**
+   * The text contained a character that is not a hexadecimal digit.
+   */
+
+  ERROR_DIGIT;
+
+  private static final MACParseStatus[] VALUES = values();
+
+  /**
+   * @return The negative code returned by the parse functions for this status, or {@code 0} for {@link #OK}
+   */
+
+  public long code()
+  {
+    return -(long) this.ordinal();
+  }
+
+  /**
+   * @param result The result of a non-throwing parse function
+   *
+   * @return {@code true} if the result indicates failure
+   */
+
+  public static boolean isError(
+    final long result)
+  {
+    return result < 0L;
+  }
+
+  /**
+   * @param result The result of a non-throwing parse function
+   *
+   * @return The status indicated by the result
+   */
+
+  public static MACParseStatus ofResult(
+    final long result)
+  {
+    if (result >= 0L) {
+      return OK;
+    }
+    final var index = -result;
+    if (index >= VALUES.length) {
+      throw new IllegalArgumentException(
+        "Not a valid parse result: %d".formatted(Long.valueOf(result))
+      );
+    }
+    return VALUES[(int) index];
+  }
+}
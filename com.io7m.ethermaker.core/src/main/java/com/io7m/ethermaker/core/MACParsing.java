@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hand-written scanners for MAC address text. The scanners do not allocate,
+ * and report failure by returning the negative code of a
+ * {@link MACParseStatus} rather than throwing.
+ */
+
+final class MACParsing
+{
+  static final long ERROR_LENGTH =
+    MACParseStatus.ERROR_LENGTH.code();
+  static final long ERROR_SEPARATOR =
+    MACParseStatus.ERROR_SEPARATOR.code();
+  static final long ERROR_DIGIT =
+    MACParseStatus.ERROR_DIGIT.code();
+
+  private static final byte[] HEX = hexTable();
+
+  private MACParsing()
+  {
+
+  }
+
+  private static byte[] hexTable()
+  {
+    final var table = new byte[128];
+    for (int index = 0; index < table.length; ++index) {
+      table[index] = -1;
+    }
+    for (int index = 0; index < 10; ++index) {
+      table['0' + index] = (byte) index;
+    }
+    for (int index = 0; index < 6; ++index) {
+      table['a' + index] = (byte) (10 + index);
+      table['A' + index] = (byte) (10 + index);
+    }
+    return table;
+  }
+
+  /**
+   * @param c The character
+   *
+   * @return The value of the given hex digit, or a negative value if the character is not a hex digit
+   */
+
+  static int hex(
+    final char c)
+  {
+    if (c >= HEX.length) {
+      return -1;
+    }
+    return HEX[c];
+  }
+
+  /**
+   * @param text  The text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return The index of the first non-whitespace character in the range
+   */
+
+  static int trimStart(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end && text.charAt(index) <= ' ') {
+      ++index;
+    }
+    return index;
+  }
+
+  /**
+   * @param text  The text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return The index after the last non-whitespace character in the range
+   */
+
+  static int trimEnd(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int index = end;
+    while (index > start && text.charAt(index - 1) <= ' ') {
+      --index;
+    }
+    return index;
+  }
+
+  /**
+   * Scan an address written in the given notation, starting at
+   * {@code start}. The caller is responsible for checking that the range
+   * is long enough.
+   *
+   * @param text     The text
+   * @param start    The start index
+   * @param notation The notation
+   *
+   * @return A packed address, or a negative error code
+   */
+
+  static long scanNotation(
+    final CharSequence text,
+    final int start,
+    final MACNotation notation)
+  {
+    final var separator = notation.separator();
+
+    long result = 0L;
+    int bad = 0;
+    int index = start;
+    for (int octet = 0; octet < 6; ++octet) {
+      if (notation.hasSeparatorBefore(octet)) {
+        if (text.charAt(index) != separator) {
+          return ERROR_SEPARATOR;
+        }
+        ++index;
+      }
+      final var hi = hex(text.charAt(index));
+      final var lo = hex(text.charAt(index + 1));
+      bad |= hi | lo;
+      result = (result << 8) | (long) ((hi << 4) | lo);
+      index += 2;
+    }
+    if (bad < 0) {
+      return ERROR_DIGIT;
+    }
+    return result;
+  }
+
+  /**
+   * Determine the notation of an address from its length and the
+   * character that would be the first separator.
+   *
+   * @param text   The text
+   * @param start  The index of the first character
+   * @param length The length of the text
+   *
+   * @return The notation, or {@code null} if the length does not match any notation
+   */
+
+  static MACNotation detectNotation(
+    final CharSequence text,
+    final int start,
+    final int length)
+  {
+    return switch (length) {
+      case 17 -> {
+        if (text.charAt(start + 2) == '-') {
+          yield MACNotation.HYPHEN;
+        }
+        yield MACNotation.COLON;
+      }
+      case 14 -> MACNotation.DOTTED;
+      case 12 -> MACNotation.BARE;
+      default -> null;
+    };
+  }
+
+  /**
+   * Scan a MAC address in any of the supported notations, ignoring leading
+   * and trailing whitespace.
+   *
+   * @param text  The text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return A packed address, or a negative error code
+   *
+   * @see MACNotation
+   */
+
+  static long scanAddress(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    final var s = trimStart(text, start, end);
+    final var e = trimEnd(text, s, end);
+    final var notation = detectNotation(text, s, e - s);
+    if (notation == null) {
+      return ERROR_LENGTH;
+    }
+    return scanNotation(text, s, notation);
+  }
+
+  /**
+   * Scan an organization of the form {@code xxxxxx}, ignoring leading and
+   * trailing whitespace.
+   *
+   * @param text  The text
+   * @param start The inclusive start index
+   * @param end   The exclusive end index
+   *
+   * @return The organization as a packed address with zero NIC octets, or a negative error code
+   */
+
+  static long scanOrganization(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    final var s = trimStart(text, start, end);
+    final var e = trimEnd(text, s, end);
+    if (e - s != 6) {
+      return ERROR_LENGTH;
+    }
+
+    long result = 0L;
+    int bad = 0;
+    for (int index = s; index < e; ++index) {
+      final var digit = hex(text.charAt(index));
+      bad |= digit;
+      result = (result << 4) | (long) digit;
+    }
+    if (bad < 0) {
+      return ERROR_DIGIT;
+    }
+    return result << 24;
+  }
+
+  /**
+   * @param b The byte
+   *
+   * @return The value of the given ASCII hex digit, or a negative value if the byte is not a hex digit
+   */
+
+  static int hex(
+    final byte b)
+  {
+    if (b < 0) {
+      return -1;
+    }
+    return HEX[b];
+  }
+
+  /**
+   * Scan a MAC address in any of the supported notations from the given
+   * range of ASCII bytes, ignoring leading and trailing whitespace. The
+   * buffer is accessed using absolute indices, and its position is not
+   * changed.
+   *
+   * @param buffer The buffer
+   * @param start  The inclusive start index
+   * @param end    The exclusive end index
+   *
+   * @return A packed address, or a negative error code
+   *
+   * @see MACNotation
+   */
+
+  static long scanAddress(
+    final ByteBuffer buffer,
+    final int start,
+    final int end)
+  {
+    int s = start;
+    while (s < end && (buffer.get(s) & 0xff) <= ' ') {
+      ++s;
+    }
+    int e = end;
+    while (e > s && (buffer.get(e - 1) & 0xff) <= ' ') {
+      --e;
+    }
+
+    final MACNotation notation;
+    switch (e - s) {
+      case 17 -> {
+        if (buffer.get(s + 2) == '-') {
+          notation = MACNotation.HYPHEN;
+        } else {
+          notation = MACNotation.COLON;
+        }
+      }
+      case 14 -> notation = MACNotation.DOTTED;
+      case 12 -> notation = MACNotation.BARE;
+      default -> {
+        return ERROR_LENGTH;
+      }
+    }
+    return scanNotation(buffer, s, notation);
+  }
+
+  private static long scanNotation(
+    final ByteBuffer buffer,
+    final int start,
+    final MACNotation notation)
+  {
+    final var separator = (byte) notation.separator();
+
+    long result = 0L;
+    int bad = 0;
+    int index = start;
+    for (int octet = 0; octet < 6; ++octet) {
+      if (notation.hasSeparatorBefore(octet)) {
+        if (buffer.get(index) != separator) {
+          return ERROR_SEPARATOR;
+        }
+        ++index;
+      }
+      final var hi = hex(buffer.get(index));
+      final var lo = hex(buffer.get(index + 1));
+      bad |= hi | lo;
+      result = (result << 8) | (long) ((hi << 4) | lo);
+      index += 2;
+    }
+    if (bad < 0) {
+      return ERROR_DIGIT;
+    }
+    return result;
+  }
+
+  /**
+   * @param buffer The buffer
+   * @param start  The inclusive start index
+   * @param end    The exclusive end index
+   *
+   * @return {@code true} if the given range contains only whitespace
+   */
+
+  static boolean isBlank(
+    final ByteBuffer buffer,
+    final int start,
+    final int end)
+  {
+    for (int index = start; index < end; ++index) {
+      if ((buffer.get(index) & 0xff) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param text The text
+   * @param c    The character
+   *
+   * @return The index of the first occurrence of the character, or {@code -1}
+   */
+
+  static int indexOf(
+    final CharSequence text,
+    final char c)
+  {
+    final var length = text.length();
+    for (int index = 0; index < length; ++index) {
+      if (text.charAt(index) == c) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Scan a decimal prefix length of one or two digits in the range
+   * {@code [0, 48]}.
+   *
+   * @param text  The text
+   * @param start The starting index (inclusive)
+   * @param end   The ending index (exclusive)
+   *
+   * @return The prefix length, or {@code -1} on errors
+   */
+
+  static int scanPrefixLength(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    final var digits = end - start;
+    if (digits < 1 || digits > 2) {
+      return -1;
+    }
+
+    int length = 0;
+    for (int index = start; index < end; ++index) {
+      final var c = text.charAt(index);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      length = length * 10 + (c - '0');
+    }
+    return length <= 48 ? length : -1;
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.util.Objects;
+
+/**
+ * A keyed pseudorandom permutation from indices onto the addresses produced
+ * by a mask. Index {@code i} in the range {@code [0, size())} maps to a
+ * distinct address, and so any contiguous run of indices produces a run of
+ * unique addresses without any memory of previously generated addresses.
+ * A run may be resumed from any index.
+ *
+ * The permutation is a balanced Feistel network over the smallest even
+ * number of bits that covers the free bits of the mask. Values that fall
+ * outside of the mask's address space (including the broadcast address) are
+ * cycle-walked back into it. The resulting value is then deposited into the
+ * free bit positions of the mask.
+ *
+ * The permutation is intended to spread addresses, not to resist
+ * cryptanalysis.
+ */
+
+public final class MACPermutation
+{
+  private static final int ROUNDS = 6;
+  private static final long GOLDEN_GAMMA = 0x9e37_79b9_7f4a_7c15L;
+
+  private final MACMask mask;
+  private final long[] roundKeys;
+  private final long size;
+  private final int halfBits;
+  private final long halfMask;
+  private final int contiguousShift;
+
+  private MACPermutation(
+    final MACMask inMask,
+    final long key)
+  {
+    this.mask = inMask;
+
+    var available = inMask.size();
+    if (inMask.contains(MACPacked.BROADCAST)) {
+      available -= 1L;
+    }
+    if (available == 0L) {
+      throw new IllegalArgumentException(
+        "The mask can only produce the broadcast address"
+      );
+    }
+    this.size = available;
+
+    this.halfBits = (inMask.freeBitCount() + 1) >>> 1;
+    this.halfMask = (1L << this.halfBits) - 1L;
+
+    this.roundKeys = new long[ROUNDS];
+    for (int index = 0; index < ROUNDS; ++index) {
+      this.roundKeys[index] =
+        MACAddressHashSet.mix(key + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    final var free = inMask.freeBits();
+    final var shift = Long.numberOfTrailingZeros(free);
+    final var run = free >>> shift;
+    if ((run & (run + 1L)) == 0L) {
+      this.contiguousShift = shift;
+    } else {
+      this.contiguousShift = -1;
+    }
+  }
+
+  /**
+   * Create a permutation over the addresses produced by the given mask.
+   *
+   * @param mask The mask
+   * @param key  The permutation key
+   *
+   * @return A permutation
+   *
+   * @throws IllegalArgumentException If the mask can produce no addresses
+   *                                  other than the broadcast address
+   */
+
+  public static MACPermutation create(
+    final MACMaskType mask,
+    final long key)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(mask, "mask");
+    return new MACPermutation(MACMask.copyOf(mask), key);
+  }
+
+  /**
+   * @return The mask over which the permutation runs
+   */
+
+  public MACMask mask()
+  {
+    return this.mask;
+  }
+
+  /**
+   * @return The number of distinct addresses that the permutation can produce
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @param index The index in the range {@code [0, size())}
+   *
+   * @return The packed address at the given index
+   */
+
+  public long address(
+    final long index)
+  {
+    Objects.checkIndex(index, this.size);
+    return this.deposit(this.permute(index));
+  }
+
+  /**
+   * Write the addresses at indices {@code [start, start + length)} into the
+   * given array, starting at {@code offset}.
+   *
+   * @param start  The first index
+   * @param output The output array
+   * @param offset The starting offset
+   * @param length The number of addresses
+   */
+
+  public void addressesInto(
+    final long start,
+    final long[] output,
+    final int offset,
+    final int length)
+  {
+    Objects.requireNonNull(output, "output");
+    Objects.checkFromIndexSize(offset, length, output.length);
+    RangeCheck.checkGreaterEqualLong(start, "Start index", 0L, "Minimum index");
+    RangeCheck.checkLessEqualLong(
+      start,
+      "Start index",
+      this.size - length,
+      "Addresses available - Length"
+    );
+
+    for (int index = 0; index < length; ++index) {
+      output[offset + index] = this.deposit(this.permute(start + index));
+    }
+  }
+
+  private long permute(
+    final long index)
+  {
+    long value = index;
+    do {
+      value = this.feistel(value);
+    } while (Long.compareUnsigned(value, this.size) >= 0);
+    return value;
+  }
+
+  private long feistel(
+    final long value)
+  {
+    final var bits = this.halfBits;
+    final var half = this.halfMask;
+
+    long left = value >>> bits;
+    long right = value & half;
+    for (final var roundKey : this.roundKeys) {
+      final var next = left ^ (MACAddressHashSet.mix(right ^ roundKey) & half);
+      left = right;
+      right = next;
+    }
+    return (left << bits) | right;
+  }
+
+  private long deposit(
+    final long value)
+  {
+    if (this.contiguousShift >= 0) {
+      return (value << this.contiguousShift) | this.mask.fixedBits();
+    }
+
+    long result = this.mask.fixedBits();
+    long remaining = this.mask.freeBits();
+    long source = value;
+    while (remaining != 0L) {
+      final var lowest = remaining & -remaining;
+      if ((source & 1L) != 0L) {
+        result |= lowest;
+      }
+      source >>>= 1;
+      remaining ^= lowest;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACPermutation 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A longest-prefix-match index over the blocks of a registry.
+ *
+ * The index resolves an address to the most specific block that contains
+ * it using a bounded number of memory accesses, regardless of the size of
+ * the registry:
+ *
+ * <ol>
+ *   <li>A direct table indexed by the top 16 bits of the address gives the
+ *   range of organization identifiers (OUIs) that share those bits.</li>
+ *   <li>The OUI is located within that range, which holds at most 256
+ *   entries, using at most 8 probes of a binary search.</li>
+ *   <li>For each prefix length longer than 24 bits, the OUI may own a direct
+ *   sub-table indexed by the address bits following the OUI. For example,
+ *   MA-M (28-bit) blocks use a 16-entry sub-table, and MA-S (36-bit) blocks
+ *   use a 4096-entry sub-table.</li>
+ * </ol>
+ *
+ * Only blocks with prefixes between 24 and 36 bits long (inclusive) are
+ * supported, which covers all of the IEEE registries.
+ *
+ * Building the index takes time and heap space proportional to the number
+ * of blocks in the registry, so it is only worthwhile for callers that
+ * classify very large numbers of addresses. {@link MACRegistry#lookup(long)}
+ * answers the same queries directly from the registry without any setup.
+ */
+
+public final class MACPrefixIndex
+{
+  private static final int MINIMUM_BITS = 24;
+  private static final int MAXIMUM_BITS = 36;
+  private static final int NONE = -1;
+
+  private final MACRegistry registry;
+  private final int[] ouiStart;
+  private final int[] ouis;
+  private final int[] ouiBlocks;
+  private final int[] subBits;
+  private final int[][] subOffsets;
+  private final int[][] subTables;
+
+  private MACPrefixIndex(
+    final MACRegistry inRegistry,
+    final int[] inOuiStart,
+    final int[] inOuis,
+    final int[] inOuiBlocks,
+    final int[] inSubBits,
+    final int[][] inSubOffsets,
+    final int[][] inSubTables)
+  {
+    this.registry = inRegistry;
+    this.ouiStart = inOuiStart;
+    this.ouis = inOuis;
+    this.ouiBlocks = inOuiBlocks;
+    this.subBits = inSubBits;
+    this.subOffsets = inSubOffsets;
+    this.subTables = inSubTables;
+  }
+
+  /**
+   * Build an index over the given registry. This takes time linear in the
+   * number of blocks in the registry.
+   *
+   * @param registry The registry
+   *
+   * @return An index
+   *
+   * @throws IllegalArgumentException If the registry contains blocks with
+   *                                  unsupported prefix lengths
+   */
+
+  public static MACPrefixIndex create(
+    final MACRegistry registry)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(registry, "registry");
+
+    final var builder = new Builder(registry);
+    builder.collectOrganizations();
+    builder.allocateSubTables();
+    builder.fillBlocks();
+
+    return new MACPrefixIndex(
+      registry,
+      builder.ouiStart,
+      builder.ouis,
+      builder.ouiBlocks,
+      builder.subBits,
+      builder.subOffsets,
+      builder.subTables
+    );
+  }
+
+  private static int[] distinct(
+    final int[] sorted)
+  {
+    int count = 0;
+    for (int index = 0; index < sorted.length; ++index) {
+      if (index == 0 || sorted[index] != sorted[index - 1]) {
+        sorted[count] = sorted[index];
+        ++count;
+      }
+    }
+    return Arrays.copyOf(sorted, count);
+  }
+
+  private static int indexOf(
+    final int[] values,
+    final int value)
+  {
+    for (int index = 0; index < values.length; ++index) {
+      if (values[index] == value) {
+        return index;
+      }
+    }
+    throw new UnreachableCodeException();
+  }
+
+  private static int subKey(
+    final long address,
+    final int bits)
+  {
+    final var width = bits - MINIMUM_BITS;
+    return (int) (address >>> (48 - bits)) & ((1 << width) - 1);
+  }
+
+  private static int find(
+    final int[] ouiStart,
+    final int[] ouis,
+    final int oui)
+  {
+    final var top = oui >>> 8;
+    int low = ouiStart[top];
+    int high = ouiStart[top + 1] - 1;
+    while (low <= high) {
+      final var middle = (low + high) >>> 1;
+      final var value = ouis[middle];
+      if (value < oui) {
+        low = middle + 1;
+      } else if (value > oui) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * @return The registry over which the index was built
+   */
+
+  public MACRegistry registry()
+  {
+    return this.registry;
+  }
+
+  /**
+   * Find the most specific block that contains the given address.
+   *
+   * @param address The packed address
+   *
+   * @return The registry block index, or {@code -1} if no block contains
+   * the address
+   *
+   * @see MACRegistry#lookup(long)
+   */
+
+  public int lookup(
+    final long address)
+  {
+    final var slot =
+      find(this.ouiStart, this.ouis, MACPacked.organization(address));
+    if (slot == NONE) {
+      return NONE;
+    }
+
+    for (int sub = 0; sub < this.subBits.length; ++sub) {
+      final var offset = this.subOffsets[sub][slot];
+      if (offset != NONE) {
+        final var block =
+          this.subTables[sub][offset + subKey(address, this.subBits[sub])];
+        if (block != NONE) {
+          return block;
+        }
+      }
+    }
+    return this.ouiBlocks[slot];
+  }
+
+  /**
+   * Find the vendor of the most specific block that contains the given
+   * address.
+   *
+   * @param address The packed address
+   *
+   * @return The vendor name, if any
+   */
+
+  public Optional<String> vendorOf(
+    final long address)
+  {
+    final var block = this.lookup(address);
+    if (block < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(this.registry.blockVendor(block));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACPrefixIndex %d organizations]",
+      Integer.valueOf(this.ouis.length)
+    );
+  }
+
+  private static final class Builder
+  {
+    private final MACRegistry registry;
+    private final int blockCount;
+    private int[] ouiStart;
+    private int[] ouis;
+    private int[] ouiBlocks;
+    private int[] subBits;
+    private int[][] subOffsets;
+    private int[][] subTables;
+
+    Builder(
+      final MACRegistry inRegistry)
+    {
+      this.registry = inRegistry;
+      this.blockCount = inRegistry.blockCount();
+    }
+
+    /**
+     * Find the distinct OUIs and prefix lengths used by all blocks.
+     */
+
+    void collectOrganizations()
+    {
+      final var prefixLengths = new boolean[MAXIMUM_BITS + 1];
+      final var allOuis = new int[this.blockCount];
+      for (int block = 0; block < this.blockCount; ++block) {
+        final var bits = this.registry.blockPrefixBits(block);
+        if (bits < MINIMUM_BITS || bits > MAXIMUM_BITS) {
+          throw new IllegalArgumentException(
+            "Unsupported prefix length %d (must be in the range [%d, %d])".formatted(
+              Integer.valueOf(bits),
+              Integer.valueOf(MINIMUM_BITS),
+              Integer.valueOf(MAXIMUM_BITS))
+          );
+        }
+        prefixLengths[bits] = true;
+        allOuis[block] = MACPacked.organization(this.registry.blockBase(block));
+      }
+
+      Arrays.sort(allOuis);
+      this.ouis = distinct(allOuis);
+      this.ouiStart = new int[(1 << 16) + 1];
+      for (final var oui : this.ouis) {
+        ++this.ouiStart[(oui >>> 8) + 1];
+      }
+      for (int index = 1; index < this.ouiStart.length; ++index) {
+        this.ouiStart[index] += this.ouiStart[index - 1];
+      }
+
+      this.ouiBlocks = new int[this.ouis.length];
+      Arrays.fill(this.ouiBlocks, NONE);
+
+      /*
+       * Sub-tables are ordered from the most specific prefix length to the
+       * least specific, so that lookups can stop at the first match.
+       */
+
+      final var lengths = new int[MAXIMUM_BITS - MINIMUM_BITS];
+      int count = 0;
+      for (int bits = MAXIMUM_BITS; bits > MINIMUM_BITS; --bits) {
+        if (prefixLengths[bits]) {
+          lengths[count] = bits;
+          ++count;
+        }
+      }
+      this.subBits = Arrays.copyOf(lengths, count);
+    }
+
+    /**
+     * Allocate a sub-table for every OUI that owns at least one block of
+     * each longer prefix length.
+     */
+
+    void allocateSubTables()
+    {
+      final var subCount = this.subBits.length;
+      final var subSizes = new int[subCount];
+      this.subOffsets = new int[subCount][];
+      for (int sub = 0; sub < subCount; ++sub) {
+        this.subOffsets[sub] = new int[this.ouis.length];
+        Arrays.fill(this.subOffsets[sub], NONE);
+      }
+
+      for (int block = 0; block < this.blockCount; ++block) {
+        final var bits = this.registry.blockPrefixBits(block);
+        if (bits != MINIMUM_BITS) {
+          final var slot = this.slotOf(block);
+          final var sub = indexOf(this.subBits, bits);
+          if (this.subOffsets[sub][slot] == NONE) {
+            this.subOffsets[sub][slot] = subSizes[sub];
+            subSizes[sub] += 1 << (bits - MINIMUM_BITS);
+          }
+        }
+      }
+
+      this.subTables = new int[subCount][];
+      for (int sub = 0; sub < subCount; ++sub) {
+        this.subTables[sub] = new int[subSizes[sub]];
+        Arrays.fill(this.subTables[sub], NONE);
+      }
+    }
+
+    void fillBlocks()
+    {
+      for (int block = 0; block < this.blockCount; ++block) {
+        final var bits = this.registry.blockPrefixBits(block);
+        final var slot = this.slotOf(block);
+        if (bits == MINIMUM_BITS) {
+          this.ouiBlocks[slot] = block;
+        } else {
+          final var sub = indexOf(this.subBits, bits);
+          final var offset = this.subOffsets[sub][slot];
+          final var key = subKey(this.registry.blockBase(block), bits);
+          this.subTables[sub][offset + key] = block;
+        }
+      }
+    }
+
+    private int slotOf(
+      final int block)
+    {
+      return find(
+        this.ouiStart,
+        this.ouis,
+        MACPacked.organization(this.registry.blockBase(block))
+      );
+    }
+  }
+}
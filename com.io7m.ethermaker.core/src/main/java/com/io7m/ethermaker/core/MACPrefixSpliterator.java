@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A spliterator over a contiguous range of packed addresses. Splitting
+ * divides the remaining range exactly in half.
+ */
+
+final class MACPrefixSpliterator implements Spliterator.OfLong
+{
+  private static final int CHARACTERISTICS =
+    ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+  private long next;
+  private final long end;
+
+  MACPrefixSpliterator(
+    final long inNext,
+    final long inEnd)
+  {
+    this.next = inNext;
+    this.end = inEnd;
+  }
+
+  @Override
+  public Spliterator.OfLong trySplit()
+  {
+    final var remaining = this.end - this.next;
+    if (remaining < 2L) {
+      return null;
+    }
+
+    final var start = this.next;
+    final var middle = start + (remaining >>> 1);
+    this.next = middle;
+    return new MACPrefixSpliterator(start, middle);
+  }
+
+  @Override
+  public boolean tryAdvance(
+    final LongConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+    if (this.next < this.end) {
+      final var address = this.next;
+      ++this.next;
+      action.accept(address);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(
+    final LongConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+    final var limit = this.end;
+    long address = this.next;
+    this.next = limit;
+    while (address < limit) {
+      action.accept(address);
+      ++address;
+    }
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return this.end - this.next;
+  }
+
+  @Override
+  public int characteristics()
+  {
+    return CHARACTERISTICS;
+  }
+
+  @Override
+  public Comparator<? super Long> getComparator()
+  {
+    return null;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jranges.RangeCheck;
+import org.immutables.value.Value;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of packed MAC addresses that share the top {@code length} bits of
+ * a base address, written as {@code 52:54:00:00:00:00/28}.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public abstract class MACPrefixType
+{
+  /**
+   * @return The first address in the prefix; bits beyond the prefix length are zero
+   */
+
+  @Value.Parameter
+  public abstract long base();
+
+  /**
+   * @return The prefix length in bits, in the range {@code [0, 48]}
+   */
+
+  @Value.Parameter
+  public abstract int length();
+
+  /**
+   * @return The mask covering the bits fixed by the prefix
+   */
+
+  public final long prefixMask()
+  {
+    return MACPacked.ADDRESS_MASK & ~this.suffixMask();
+  }
+
+  /**
+   * @return The mask covering the bits that vary within the prefix
+   */
+
+  public final long suffixMask()
+  {
+    return (1L << (48 - this.length())) - 1L;
+  }
+
+  /**
+   * @param address The packed address
+   *
+   * @return {@code true} if the address is within the prefix
+   */
+
+  public final boolean contains(
+    final long address)
+  {
+    return (address & ~this.suffixMask()) == this.base();
+  }
+
+  /**
+   * @return The number of addresses in the prefix
+   */
+
+  public final long size()
+  {
+    return 1L << (48 - this.length());
+  }
+
+  /**
+   * @return The last address in the prefix
+   */
+
+  public final long last()
+  {
+    return this.base() | this.suffixMask();
+  }
+
+  /**
+   * @return A mask that fixes the bits of the prefix and leaves the others free
+   */
+
+  public final MACMask toMask()
+  {
+    return MACMask.builder()
+      .setFreeBits(this.suffixMask())
+      .setFixedBits(this.base())
+      .build();
+  }
+
+  /**
+   * @return A spliterator over the addresses in the prefix, in ascending order
+   */
+
+  public final Spliterator.OfLong spliterator()
+  {
+    return new MACPrefixSpliterator(this.base(), this.last() + 1L);
+  }
+
+  /**
+   * @param parallel {@code true} if the stream should be parallel
+   *
+   * @return A stream of the addresses in the prefix, in ascending order
+   */
+
+  public final LongStream stream(
+    final boolean parallel)
+  {
+    return StreamSupport.longStream(this.spliterator(), parallel);
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  protected final void checkPreconditions()
+  {
+    RangeCheck.checkGreaterEqualInteger(
+      this.length(),
+      "Prefix length",
+      0,
+      "Minimum prefix length");
+    RangeCheck.checkLessEqualInteger(
+      this.length(),
+      "Prefix length",
+      48,
+      "Maximum prefix length");
+
+    if ((this.base() & ~this.prefixMask()) != 0L) {
+      throw new IllegalArgumentException(
+        "Base 0x%x has bits set beyond the %d bit prefix".formatted(
+          Long.valueOf(this.base()),
+          Integer.valueOf(this.length()))
+      );
+    }
+  }
+
+  @Override
+  public final String toString()
+  {
+    final var text = new StringBuilder(20);
+    MACFormatting.appendTo(this.base(), text);
+    text.append('/');
+    text.append(this.length());
+    return text.toString();
+  }
+}
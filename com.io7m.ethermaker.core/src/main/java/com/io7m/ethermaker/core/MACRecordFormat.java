@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+/**
+ * The formats in which sequences of addresses can be written and read.
+ *
+ * @see MACAddressWriter
+ * @see MACAddressReader
+ */
+
+public enum MACRecordFormat
+{
+  /**
+   * Each address is written in a textual notation, followed by a newline.
+   */
+
+  TEXT,
+
+  /**
+   * Each address is written as six bytes, with octet 0 first.
+   */
+
+  BINARY6,
+
+  /**
+   * Each address is written as its packed value: a big-endian eight-byte
+   * {@code long} whose upper two bytes are zero.
+   */
+
+  BINARY8;
+
+  /**
+   * @param notation The notation used for textual records
+   *
+   * @return The length in bytes of a single record
+   */
+
+  public int recordLength(
+    final MACNotation notation)
+  {
+    return switch (this) {
+      case TEXT -> notation.length() + 1;
+      case BINARY6 -> 6;
+      case BINARY8 -> 8;
+    };
+  }
+}
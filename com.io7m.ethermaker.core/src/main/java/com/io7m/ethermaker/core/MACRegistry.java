@@ -0,0 +1,466 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.io7m.ethermaker.core.MACRegistryFormat.HEADER_SIZE;
+import static com.io7m.ethermaker.core.MACRegistryFormat.MAGIC;
+import static com.io7m.ethermaker.core.MACRegistryFormat.MAXIMUM_SECTIONS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_MAGIC;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_SECTION_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_DATA;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_OFFSETS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VERSION;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_DESCRIPTOR_SIZE;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_BITS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_PREFIXES;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_VENDORS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.VERSION;
+
+/**
+ * A registry of organizationally unique identifiers and the other blocks of
+ * addresses assigned to vendors.
+ *
+ * The registry reads the binary format produced by {@link MACRegistryWriter}
+ * directly from a buffer; only the header is examined when a registry is
+ * opened. Blocks are identified by an index in the range
+ * {@code [0, blockCount())}. Looking up a block performs a binary search
+ * over the sorted prefixes of each section, and does not allocate. Vendor
+ * names are decoded on first use, and then cached.
+ */
+
+public final class MACRegistry
+{
+  private static final String BUILTIN =
+    "/com/io7m/ethermaker/core/registry.bin";
+
+  private final ByteBuffer data;
+  private final int[] sectionBits;
+  private final int[] sectionCounts;
+  private final int[] sectionPrefixes;
+  private final int[] sectionVendors;
+  private final int[] sectionFirstBlock;
+  private final int blockCount;
+  private final int vendorCount;
+  private final int vendorOffsets;
+  private final int vendorData;
+  private final String[] vendorCache;
+
+  private MACRegistry(
+    final ByteBuffer inData)
+  {
+    this.data = inData;
+
+    checkFormat(
+      this.data.limit() >= HEADER_SIZE,
+      "File is too short to contain a header");
+    checkFormat(
+      this.data.getInt(OFFSET_MAGIC) == MAGIC,
+      "File does not begin with the registry magic number");
+    checkFormat(
+      this.data.getInt(OFFSET_VERSION) == VERSION,
+      "Unsupported registry version %d".formatted(
+        Integer.valueOf(this.data.getInt(OFFSET_VERSION))));
+
+    final var sections = this.data.getInt(OFFSET_SECTION_COUNT);
+    checkFormat(
+      sections >= 0 && sections <= MAXIMUM_SECTIONS,
+      "Invalid section count %d".formatted(Integer.valueOf(sections)));
+    checkFormat(
+      HEADER_SIZE + sections * SECTION_DESCRIPTOR_SIZE <= this.data.limit(),
+      "File is too short to contain the section descriptors");
+
+    this.sectionBits = new int[sections];
+    this.sectionCounts = new int[sections];
+    this.sectionPrefixes = new int[sections];
+    this.sectionVendors = new int[sections];
+    this.sectionFirstBlock = new int[sections];
+
+    long blocks = 0L;
+    for (int index = 0; index < sections; ++index) {
+      this.readSection(index);
+      this.sectionFirstBlock[index] = (int) blocks;
+      blocks += this.sectionCounts[index];
+      checkFormat(blocks <= Integer.MAX_VALUE, "Too many blocks");
+    }
+    this.blockCount = (int) blocks;
+
+    this.vendorCount = this.data.getInt(OFFSET_VENDOR_COUNT);
+    this.vendorOffsets = this.data.getInt(OFFSET_VENDOR_OFFSETS);
+    this.vendorData = this.data.getInt(OFFSET_VENDOR_DATA);
+    checkFormat(
+      this.vendorCount >= 0 && this.vendorOffsets >= 0 && this.vendorData >= 0,
+      "Invalid vendor pool");
+    checkFormat(
+      this.vendorOffsets + (this.vendorCount + 1L) * Integer.BYTES <= this.data.limit(),
+      "Vendor pool exceeds the bounds of the file");
+    checkFormat(
+      this.vendorData <= this.data.limit(),
+      "Vendor pool exceeds the bounds of the file");
+
+    this.vendorCache = new String[this.vendorCount];
+  }
+
+  private void readSection(
+    final int index)
+  {
+    final var descriptor = HEADER_SIZE + index * SECTION_DESCRIPTOR_SIZE;
+    final var bits = this.data.getInt(descriptor + SECTION_OFFSET_BITS);
+    final var count = this.data.getInt(descriptor + SECTION_OFFSET_COUNT);
+    final var prefixes = this.data.getInt(descriptor + SECTION_OFFSET_PREFIXES);
+    final var vendors = this.data.getInt(descriptor + SECTION_OFFSET_VENDORS);
+
+    final var previous = index == 0 ? 0 : this.sectionBits[index - 1];
+    checkFormat(
+      bits > previous && bits <= 48,
+      "Section %d has an invalid prefix length %d".formatted(
+        Integer.valueOf(index), Integer.valueOf(bits)));
+
+    final var limit = this.data.limit();
+    final var width = MACRegistryFormat.prefixWidth(bits);
+    checkFormat(
+      count >= 0 && prefixes >= 0 && vendors >= 0,
+      "Section %d has invalid offsets".formatted(Integer.valueOf(index)));
+    checkFormat(
+      prefixes + (long) count * width <= limit,
+      "Section %d exceeds the bounds of the file".formatted(Integer.valueOf(index)));
+    checkFormat(
+      vendors + (long) count * Integer.BYTES <= limit,
+      "Section %d exceeds the bounds of the file".formatted(Integer.valueOf(index)));
+
+    this.sectionBits[index] = bits;
+    this.sectionCounts[index] = count;
+    this.sectionPrefixes[index] = prefixes;
+    this.sectionVendors[index] = vendors;
+  }
+
+  private static void checkFormat(
+    final boolean condition,
+    final String message)
+  {
+    if (!condition) {
+      throw new IllegalArgumentException("Malformed registry: " + message);
+    }
+  }
+
+  /**
+   * The embedded registry is compiled from
+   * {@code src/main/registry/registry.csv} using the "oui-compile" command,
+   * and the result is checked in as a resource. It deliberately contains only a
+   * small selection of well-known MA-L assignments; use
+   * {@link #open(Path)} with a registry compiled from the complete IEEE
+   * exports for full coverage.
+   *
+   * @return The registry embedded in this library
+   */
+
+  public static MACRegistry builtin()
+  {
+    return BuiltinHolder.BUILTIN_REGISTRY;
+  }
+
+  /**
+   * Open a registry from the bytes between the position and limit of the
+   * given buffer. The buffer is not copied, and must not be modified
+   * while the registry is in use.
+   *
+   * @param buffer The buffer
+   *
+   * @return A registry
+   *
+   * @throws IllegalArgumentException If the buffer does not contain a registry
+   */
+
+  public static MACRegistry fromBuffer(
+    final ByteBuffer buffer)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    return new MACRegistry(buffer.slice().order(ByteOrder.BIG_ENDIAN));
+  }
+
+  /**
+   * Open a registry file by memory-mapping it. Opening a registry does not
+   * read the blocks, so the time taken does not depend on the size of the
+   * registry, and processes that map the same file share the pages in the
+   * operating system's page cache.
+   *
+   * @param file The file
+   *
+   * @return A registry
+   *
+   * @throws IOException On I/O errors, or if the file does not contain a registry
+   */
+
+  public static MACRegistry open(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return fromBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+    } catch (final IllegalArgumentException e) {
+      throw new IOException("%s: %s".formatted(file, e.getMessage()), e);
+    }
+  }
+
+  /**
+   * @return The number of blocks in the registry
+   */
+
+  public int blockCount()
+  {
+    return this.blockCount;
+  }
+
+  /**
+   * @return The number of distinct vendors in the registry
+   */
+
+  public int vendorCount()
+  {
+    return this.vendorCount;
+  }
+
+  /**
+   * Find the most specific block that contains the given address.
+   *
+   * @param address The packed address
+   *
+   * @return The block index, or {@code -1} if no block contains the address
+   */
+
+  public int lookup(
+    final long address)
+  {
+    for (int section = this.sectionBits.length - 1; section >= 0; --section) {
+      final var index = this.search(section, address);
+      if (index >= 0) {
+        return this.sectionFirstBlock[section] + index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Find the vendor of the most specific block that contains the given
+   * address.
+   *
+   * @param address The packed address
+   *
+   * @return The vendor name, if any
+   */
+
+  public Optional<String> vendorOf(
+    final long address)
+  {
+    final var block = this.lookup(address);
+    if (block < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(this.blockVendor(block));
+  }
+
+  private int search(
+    final int section,
+    final long address)
+  {
+    final var bits = this.sectionBits[section];
+    final var key = (address & MACPacked.ADDRESS_MASK) >>> (48 - bits);
+    final var prefixes = this.sectionPrefixes[section];
+
+    int low = 0;
+    int high = this.sectionCounts[section] - 1;
+    if (bits <= 32) {
+      while (low <= high) {
+        final var middle = (low + high) >>> 1;
+        final var value =
+          Integer.toUnsignedLong(this.data.getInt(prefixes + (middle << 2)));
+        if (value < key) {
+          low = middle + 1;
+        } else if (value > key) {
+          high = middle - 1;
+        } else {
+          return middle;
+        }
+      }
+    } else {
+      while (low <= high) {
+        final var middle = (low + high) >>> 1;
+        final var value = this.data.getLong(prefixes + (middle << 3));
+        if (value < key) {
+          low = middle + 1;
+        } else if (value > key) {
+          high = middle - 1;
+        } else {
+          return middle;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private int sectionOf(
+    final int block)
+  {
+    Objects.checkIndex(block, this.blockCount);
+    int section = this.sectionFirstBlock.length - 1;
+    while (this.sectionFirstBlock[section] > block) {
+      --section;
+    }
+    return section;
+  }
+
+  /**
+   * @param block The block index
+   *
+   * @return The length of the block's prefix in bits
+   */
+
+  public int blockPrefixBits(
+    final int block)
+  {
+    return this.sectionBits[this.sectionOf(block)];
+  }
+
+  /**
+   * @param block The block index
+   *
+   * @return The packed address at the start of the block
+   */
+
+  public long blockBase(
+    final int block)
+  {
+    final var section = this.sectionOf(block);
+    final var bits = this.sectionBits[section];
+    final var index = block - this.sectionFirstBlock[section];
+    final var prefixes = this.sectionPrefixes[section];
+
+    final long prefix;
+    if (bits <= 32) {
+      prefix = Integer.toUnsignedLong(this.data.getInt(prefixes + (index << 2)));
+    } else {
+      prefix = this.data.getLong(prefixes + (index << 3));
+    }
+    return prefix << (48 - bits);
+  }
+
+  /**
+   * @param block The block index
+   *
+   * @return The index of the vendor to which the block is assigned
+   */
+
+  public int blockVendorIndex(
+    final int block)
+  {
+    final var section = this.sectionOf(block);
+    final var index = block - this.sectionFirstBlock[section];
+    return this.data.getInt(this.sectionVendors[section] + (index << 2));
+  }
+
+  /**
+   * @param block The block index
+   *
+   * @return The vendor to which the block is assigned
+   */
+
+  public String blockVendor(
+    final int block)
+  {
+    return this.vendor(this.blockVendorIndex(block));
+  }
+
+  /**
+   * @param vendor The vendor index
+   *
+   * @return The name of the vendor
+   */
+
+  public String vendor(
+    final int vendor)
+  {
+    Objects.checkIndex(vendor, this.vendorCount);
+
+    final var cached = this.vendorCache[vendor];
+    if (cached != null) {
+      return cached;
+    }
+
+    final var offset = this.vendorOffsets + (vendor << 2);
+    final var start = this.data.getInt(offset);
+    final var end = this.data.getInt(offset + Integer.BYTES);
+    checkFormat(
+      start >= 0 && start <= end && this.vendorData + (long) end <= this.data.limit(),
+      "Vendor %d exceeds the bounds of the file".formatted(Integer.valueOf(vendor)));
+
+    final var name =
+      StandardCharsets.UTF_8.decode(
+        this.data.slice(this.vendorData + start, end - start)
+      ).toString();
+    this.vendorCache[vendor] = name;
+    return name;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACRegistry %d blocks, %d vendors]",
+      Integer.valueOf(this.blockCount),
+      Integer.valueOf(this.vendorCount)
+    );
+  }
+
+  private static final class BuiltinHolder
+  {
+    private static final MACRegistry BUILTIN_REGISTRY = loadBuiltin();
+
+    private BuiltinHolder()
+    {
+
+    }
+
+    private static MACRegistry loadBuiltin()
+    {
+      try (var stream = MACRegistry.class.getResourceAsStream(BUILTIN)) {
+        if (stream == null) {
+          throw new IllegalStateException(
+            "Missing resource %s: the embedded registry is not present in this build"
+              .formatted(BUILTIN));
+        }
+        return fromBuffer(ByteBuffer.wrap(stream.readAllBytes()));
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Functions to read the CSV exports of the IEEE registries (MA-L, MA-M,
+ * MA-S, and the older IAB and CID registries).
+ *
+ * Each record has the columns {@code Registry}, {@code Assignment},
+ * {@code Organization Name} and {@code Organization Address}. The
+ * assignment is a hexadecimal prefix whose length determines the length of
+ * the assigned block.
+ */
+
+public final class MACRegistryCSV
+{
+  private MACRegistryCSV()
+  {
+
+  }
+
+  /**
+   * Read all blocks from the given file into the given writer. Blocks that
+   * have already been added to the writer are ignored; the IEEE exports
+   * contain a small number of duplicate assignments.
+   *
+   * @param file   The CSV file
+   * @param writer The registry writer
+   *
+   * @return The number of blocks added
+   *
+   * @throws IOException On I/O errors, or malformed records
+   */
+
+  public static int readInto(
+    final Path file,
+    final MACRegistryWriter writer)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+    try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      return readInto(reader, file.toString(), writer);
+    }
+  }
+
+  /**
+   * Read all blocks from the given reader into the given writer.
+   *
+   * @param reader The reader
+   * @param source The name of the source, used in error messages
+   * @param writer The registry writer
+   *
+   * @return The number of blocks added
+   *
+   * @throws IOException On I/O errors, or malformed records
+   *
+   * @see #readInto(Path, MACRegistryWriter)
+   */
+
+  public static int readInto(
+    final BufferedReader reader,
+    final String source,
+    final MACRegistryWriter writer)
+    throws IOException
+  {
+    Objects.requireNonNull(reader, "reader");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(writer, "writer");
+
+    final var records = new RecordReader(reader, source);
+    int added = 0;
+    while (true) {
+      final var fields = records.next();
+      if (fields == null) {
+        break;
+      }
+      if (fields.size() == 1 && fields.get(0).isBlank()) {
+        continue;
+      }
+      if (records.line == 1L && "Registry".equalsIgnoreCase(fields.get(0).trim())) {
+        continue;
+      }
+      if (addRecord(records, fields, writer)) {
+        ++added;
+      }
+    }
+    return added;
+  }
+
+  private static boolean addRecord(
+    final RecordReader records,
+    final List<String> fields,
+    final MACRegistryWriter writer)
+    throws IOException
+  {
+    if (fields.size() < 3) {
+      throw records.error(
+        "Expected at least 3 fields, but received %d"
+          .formatted(Integer.valueOf(fields.size())));
+    }
+
+    final var registry = fields.get(0).trim();
+    final var bits = prefixBits(registry);
+    if (bits < 0) {
+      throw records.error("Unrecognized registry '%s'".formatted(registry));
+    }
+
+    final var assignment = fields.get(1).trim();
+    if (assignment.length() * 4 != bits) {
+      throw records.error(
+        "Registry %s requires %d hex digits, but received '%s'"
+          .formatted(registry, Integer.valueOf(bits / 4), assignment));
+    }
+
+    long prefix = 0L;
+    for (int index = 0; index < assignment.length(); ++index) {
+      final var digit = MACParsing.hex(assignment.charAt(index));
+      if (digit < 0) {
+        throw records.error(
+          "Assignment '%s' is not hexadecimal".formatted(assignment));
+      }
+      prefix = (prefix << 4) | digit;
+    }
+
+    return writer.tryAdd(prefix << (48 - bits), bits, fields.get(2).trim());
+  }
+
+  private static int prefixBits(
+    final String registry)
+  {
+    return switch (registry.toUpperCase(Locale.ROOT)) {
+      case "MA-L", "CID" -> 24;
+      case "MA-M" -> 28;
+      case "MA-S", "IAB" -> 36;
+      default -> -1;
+    };
+  }
+
+  private static final class RecordReader
+  {
+    private final BufferedReader reader;
+    private final String source;
+    private final StringBuilder field;
+    private long line;
+
+    RecordReader(
+      final BufferedReader inReader,
+      final String inSource)
+    {
+      this.reader = inReader;
+      this.source = inSource;
+      this.field = new StringBuilder(64);
+    }
+
+    IOException error(
+      final String message)
+    {
+      return new IOException(
+        "%s:%d: %s".formatted(this.source, Long.valueOf(this.line), message)
+      );
+    }
+
+    /**
+     * Read a record, following quoted fields across line breaks.
+     */
+
+    List<String> next()
+      throws IOException
+    {
+      var text = this.reader.readLine();
+      if (text == null) {
+        return null;
+      }
+      ++this.line;
+
+      final var fields = new ArrayList<String>(4);
+      this.field.setLength(0);
+      boolean quoted = false;
+      int index = 0;
+      while (true) {
+        if (index == text.length()) {
+          if (!quoted) {
+            break;
+          }
+          text = this.reader.readLine();
+          if (text == null) {
+            throw this.error("Unterminated quoted field");
+          }
+          ++this.line;
+          this.field.append('\n');
+          index = 0;
+          continue;
+        }
+
+        final var c = text.charAt(index);
+        if (quoted) {
+          if (c == '"') {
+            if (index + 1 < text.length() && text.charAt(index + 1) == '"') {
+              this.field.append('"');
+              ++index;
+            } else {
+              quoted = false;
+            }
+          } else {
+            this.field.append(c);
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          fields.add(this.field.toString());
+          this.field.setLength(0);
+        } else {
+          this.field.append(c);
+        }
+        ++index;
+      }
+
+      fields.add(this.field.toString());
+      return fields;
+    }
+  }
+}
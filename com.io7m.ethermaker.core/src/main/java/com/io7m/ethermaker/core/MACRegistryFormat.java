@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+/**
+ * The layout of binary registry files.
+ *
+ * All values are big-endian. A file consists of a header, followed by
+ * one descriptor per section, followed by the data referenced by the
+ * descriptors. All offsets are absolute byte offsets from the start of the
+ * file.
+ *
+ * <pre>
+ * Header:
+ *   int magic              ('EMRG')
+ *   int version
+ *   int sectionCount
+ *   int vendorCount
+ *   int vendorOffsetsOffset
+ *   int vendorDataOffset
+ *
+ * Section descriptor:
+ *   int prefixBits         (such as 24 for MA-L, 28 for MA-M, 36 for MA-S)
+ *   int count
+ *   int prefixesOffset
+ *   int vendorsOffset
+ * </pre>
+ *
+ * Sections appear in ascending order of prefix length, and no two sections
+ * share a prefix length. Each section has a column of {@code count} prefixes
+ * sorted in ascending order, and a parallel column of {@code count} vendor
+ * indices. A prefix is the top {@code prefixBits} bits of a packed address,
+ * stored as an {@code int} when {@code prefixBits <= 32}, and as a
+ * {@code long} otherwise. The vendor pool consists of
+ * {@code vendorCount + 1} {@code int} offsets relative to
+ * {@code vendorDataOffset}, followed by the UTF-8 encoded vendor names.
+ */
+
+final class MACRegistryFormat
+{
+  static final int MAGIC = 0x454d_5247;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 24;
+  static final int SECTION_DESCRIPTOR_SIZE = 16;
+  static final int MAXIMUM_SECTIONS = 48;
+
+  static final int OFFSET_MAGIC = 0;
+  static final int OFFSET_VERSION = 4;
+  static final int OFFSET_SECTION_COUNT = 8;
+  static final int OFFSET_VENDOR_COUNT = 12;
+  static final int OFFSET_VENDOR_OFFSETS = 16;
+  static final int OFFSET_VENDOR_DATA = 20;
+
+  static final int SECTION_OFFSET_BITS = 0;
+  static final int SECTION_OFFSET_COUNT = 4;
+  static final int SECTION_OFFSET_PREFIXES = 8;
+  static final int SECTION_OFFSET_VENDORS = 12;
+
+  private MACRegistryFormat()
+  {
+
+  }
+
+  /**
+   * @param prefixBits The prefix length
+   *
+   * @return The size in bytes of a prefix of the given length
+   */
+
+  static int prefixWidth(
+    final int prefixBits)
+  {
+    return prefixBits <= 32 ? Integer.BYTES : Long.BYTES;
+  }
+}
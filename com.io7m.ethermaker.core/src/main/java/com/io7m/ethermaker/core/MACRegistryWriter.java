@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import com.io7m.jranges.RangeCheck;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static com.io7m.ethermaker.core.MACRegistryFormat.HEADER_SIZE;
+import static com.io7m.ethermaker.core.MACRegistryFormat.MAGIC;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_MAGIC;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_SECTION_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_DATA;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VENDOR_OFFSETS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.OFFSET_VERSION;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_DESCRIPTOR_SIZE;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_BITS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_COUNT;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_PREFIXES;
+import static com.io7m.ethermaker.core.MACRegistryFormat.SECTION_OFFSET_VENDORS;
+import static com.io7m.ethermaker.core.MACRegistryFormat.VERSION;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A writer of binary registry files.
+ *
+ * Vendor names are interned so that each distinct name is stored once,
+ * regardless of the number of blocks assigned to the vendor.
+ *
+ * @see MACRegistry
+ */
+
+public final class MACRegistryWriter
+{
+  private final TreeMap<Integer, TreeMap<Long, Integer>> sections;
+  private final Map<String, Integer> vendorIndices;
+  private final List<String> vendors;
+  private int blockCount;
+
+  private MACRegistryWriter()
+  {
+    this.sections = new TreeMap<>();
+    this.vendorIndices = new HashMap<>();
+    this.vendors = new ArrayList<>();
+  }
+
+  /**
+   * @return A new empty writer
+   */
+
+  public static MACRegistryWriter create()
+  {
+    return new MACRegistryWriter();
+  }
+
+  /**
+   * Add an assigned block.
+   *
+   * @param base       The packed address at the start of the block
+   * @param prefixBits The length of the block's prefix in bits
+   * @param vendor     The vendor to which the block is assigned
+   *
+   * @return this
+   *
+   * @throws IllegalArgumentException If the base has bits set beyond the
+   *                                  prefix, or the block has already
+   *                                  been added
+   */
+
+  public MACRegistryWriter add(
+    final long base,
+    final int prefixBits,
+    final String vendor)
+    throws IllegalArgumentException
+  {
+    if (!this.tryAdd(base, prefixBits, vendor)) {
+      throw new IllegalArgumentException(
+        "Block %s/%d has already been added".formatted(
+          MACFormatting.format(base),
+          Integer.valueOf(prefixBits))
+      );
+    }
+    return this;
+  }
+
+  /**
+   * Add an assigned block if the block has not already been added.
+   *
+   * @param base       The packed address at the start of the block
+   * @param prefixBits The length of the block's prefix in bits
+   * @param vendor     The vendor to which the block is assigned
+   *
+   * @return {@code true} if the block was added
+   *
+   * @throws IllegalArgumentException If the base has bits set beyond the
+   *                                  prefix
+   */
+
+  public boolean tryAdd(
+    final long base,
+    final int prefixBits,
+    final String vendor)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(vendor, "vendor");
+    RangeCheck.checkGreaterEqualInteger(prefixBits, "Prefix bits", 1, "Minimum prefix bits");
+    RangeCheck.checkLessEqualInteger(prefixBits, "Prefix bits", 48, "Maximum prefix bits");
+
+    final var suffixBits = 48 - prefixBits;
+    final var suffixMask = (1L << suffixBits) - 1L;
+    if (!MACPacked.isValid(base) || (base & suffixMask) != 0L) {
+      throw new IllegalArgumentException(
+        "Base %s has bits set beyond the %d bit prefix".formatted(
+          MACFormatting.format(base & MACPacked.ADDRESS_MASK),
+          Integer.valueOf(prefixBits))
+      );
+    }
+
+    final var section =
+      this.sections.computeIfAbsent(Integer.valueOf(prefixBits), k -> new TreeMap<>());
+    final var prefix = Long.valueOf(base >>> suffixBits);
+    if (section.containsKey(prefix)) {
+      return false;
+    }
+
+    section.put(prefix, this.intern(vendor));
+    ++this.blockCount;
+    return true;
+  }
+
+  private Integer intern(
+    final String vendor)
+  {
+    final var existing = this.vendorIndices.get(vendor);
+    if (existing != null) {
+      return existing;
+    }
+    final var index = Integer.valueOf(this.vendors.size());
+    this.vendors.add(vendor);
+    this.vendorIndices.put(vendor, index);
+    return index;
+  }
+
+  /**
+   * @return The number of blocks added
+   */
+
+  public int blockCount()
+  {
+    return this.blockCount;
+  }
+
+  /**
+   * @return The number of distinct vendors
+   */
+
+  public int vendorCount()
+  {
+    return this.vendors.size();
+  }
+
+  /**
+   * Serialize the registry.
+   *
+   * @return A big-endian buffer containing the registry
+   */
+
+  public ByteBuffer toBuffer()
+  {
+    final var names = new byte[this.vendors.size()][];
+    for (int index = 0; index < names.length; ++index) {
+      names[index] = this.vendors.get(index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    final var sectionCount = this.sections.size();
+    long size = HEADER_SIZE + (long) sectionCount * SECTION_DESCRIPTOR_SIZE;
+    for (final var entry : this.sections.entrySet()) {
+      final var width = MACRegistryFormat.prefixWidth(entry.getKey().intValue());
+      size = align(size, Long.BYTES);
+      size += (long) entry.getValue().size() * width;
+      size = align(size, Integer.BYTES);
+      size += (long) entry.getValue().size() * Integer.BYTES;
+    }
+    final var vendorOffsets = align(size, Integer.BYTES);
+    final var vendorData = vendorOffsets + (names.length + 1L) * Integer.BYTES;
+    size = vendorData;
+    for (final var name : names) {
+      size += name.length;
+    }
+
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Registry is too large");
+    }
+
+    final var buffer = ByteBuffer.allocate((int) size).order(ByteOrder.BIG_ENDIAN);
+    buffer.putInt(OFFSET_MAGIC, MAGIC);
+    buffer.putInt(OFFSET_VERSION, VERSION);
+    buffer.putInt(OFFSET_SECTION_COUNT, sectionCount);
+    buffer.putInt(OFFSET_VENDOR_COUNT, names.length);
+    buffer.putInt(OFFSET_VENDOR_OFFSETS, (int) vendorOffsets);
+    buffer.putInt(OFFSET_VENDOR_DATA, (int) vendorData);
+
+    int descriptor = HEADER_SIZE;
+    long offset = HEADER_SIZE + (long) sectionCount * SECTION_DESCRIPTOR_SIZE;
+    for (final var entry : this.sections.entrySet()) {
+      offset = writeSection(buffer, descriptor, (int) offset, entry.getKey().intValue(), entry.getValue());
+      descriptor += SECTION_DESCRIPTOR_SIZE;
+    }
+
+    int dataOffset = 0;
+    for (int index = 0; index < names.length; ++index) {
+      buffer.putInt((int) vendorOffsets + index * Integer.BYTES, dataOffset);
+      buffer.put((int) vendorData + dataOffset, names[index]);
+      dataOffset += names[index].length;
+    }
+    buffer.putInt((int) vendorOffsets + names.length * Integer.BYTES, dataOffset);
+    return buffer;
+  }
+
+  /**
+   * Serialize the registry to the given file. The registry is written to a
+   * temporary file in the same directory and then atomically moved over the
+   * target file, so processes that have mapped an existing registry file
+   * continue to see the complete old version.
+   *
+   * @param file The output file
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void writeTo(
+    final Path file)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    final var target = file.toAbsolutePath();
+    final var temporary =
+      target.resolveSibling(target.getFileName() + ".tmp");
+
+    final var buffer = this.toBuffer();
+    try (var channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temporary, target, ATOMIC_MOVE, REPLACE_EXISTING);
+  }
+
+  private static int writeSection(
+    final ByteBuffer buffer,
+    final int descriptor,
+    final int start,
+    final int prefixBits,
+    final TreeMap<Long, Integer> blocks)
+  {
+    final var width = MACRegistryFormat.prefixWidth(prefixBits);
+    final var prefixes = (int) align(start, Long.BYTES);
+    final var vendors = (int) align(prefixes + (long) blocks.size() * width, Integer.BYTES);
+
+    buffer.putInt(descriptor + SECTION_OFFSET_BITS, prefixBits);
+    buffer.putInt(descriptor + SECTION_OFFSET_COUNT, blocks.size());
+    buffer.putInt(descriptor + SECTION_OFFSET_PREFIXES, prefixes);
+    buffer.putInt(descriptor + SECTION_OFFSET_VENDORS, vendors);
+
+    int index = 0;
+    for (final var block : blocks.entrySet()) {
+      final var prefix = block.getKey().longValue();
+      if (width == Integer.BYTES) {
+        buffer.putInt(prefixes + index * width, (int) prefix);
+      } else {
+        buffer.putLong(prefixes + index * width, prefix);
+      }
+      buffer.putInt(vendors + index * Integer.BYTES, block.getValue().intValue());
+      ++index;
+    }
+    return vendors + blocks.size() * Integer.BYTES;
+  }
+
+  private static long align(
+    final long offset,
+    final int alignment)
+  {
+    return (offset + alignment - 1L) & -alignment;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[MACRegistryWriter 0x%s]",
+      Long.toUnsignedString(System.identityHashCode(this), 16)
+    );
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.core;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.ResourceBundle;
+
+/**
+ * Functions to compile address templates into masks.
+ *
+ * A template consists of six octets separated by {@code :} or {@code -}.
+ * Each octet is written either as two hexadecimal digits, or as eight
+ * binary digits. In either form, a digit may be replaced by {@code x} or
+ * {@code ?} to indicate that the corresponding bits are free to vary; the
+ * two are equivalent. For example, {@code 52:54:00:1x:xx:xx} fixes the first
+ * three octets and the top four bits of the fourth octet to {@code 1}, and
+ * {@code 52:54:00:0000xxxx:xx:xx} fixes the top four bits of the fourth
+ * octet to zero.
+ */
+
+public final class MACTemplates
+{
+  private static final String VALID_TEMPLATE =
+    "xx:xx:xx:xx:xx:xx, where each octet is two hexadecimal digits or eight binary digits, and x or ? is a free digit";
+
+  private static final ResourceBundle RESOURCES =
+    ResourceBundle.getBundle("com.io7m.ethermaker.core.Messages");
+
+  private MACTemplates()
+  {
+
+  }
+
+  /**
+   * Compile a template.
+   *
+   * @param text The template
+   *
+   * @return A mask that produces addresses matching the template
+   *
+   * @throws IllegalArgumentException If the template is malformed
+   */
+
+  public static MACMask compile(
+    final CharSequence text)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(text, "text");
+
+    final var end = text.length();
+    long free = 0L;
+    long fixed = 0L;
+    int position = 0;
+    char separator = 0;
+
+    for (int octet = 0; octet < 6; ++octet) {
+      if (octet > 0) {
+        separator = scanSeparator(text, position, separator);
+        ++position;
+      }
+
+      final var octetEnd = octetEnd(text, position, end);
+      final var bitsPerDigit = bitsPerDigit(text, octetEnd - position);
+      final var octetFixed = scanFixed(text, position, octetEnd, bitsPerDigit);
+      if (octetFixed < 0L) {
+        throw error(text, "statusTemplateDigit");
+      }
+
+      final var shift = 40 - (octet << 3);
+      free |= scanFree(text, position, octetEnd, bitsPerDigit) << shift;
+      fixed |= octetFixed << shift;
+      position = octetEnd;
+    }
+
+    if (position != end) {
+      throw error(text, "statusLength");
+    }
+
+    return MACMask.builder()
+      .setFreeBits(free)
+      .setFixedBits(fixed)
+      .build();
+  }
+
+  /**
+   * Check the separator at the given position. The first separator in a
+   * template determines the separator used throughout.
+   *
+   * @return The separator
+   */
+
+  private static char scanSeparator(
+    final CharSequence text,
+    final int position,
+    final char expected)
+  {
+    if (position >= text.length()) {
+      throw error(text, "statusLength");
+    }
+
+    final var c = text.charAt(position);
+    if (expected == 0 && (c == ':' || c == '-')) {
+      return c;
+    }
+    if (c != expected) {
+      throw error(text, "statusSeparator");
+    }
+    return c;
+  }
+
+  /**
+   * @return The number of bits represented by each digit of an octet with
+   * the given number of digits
+   */
+
+  private static int bitsPerDigit(
+    final CharSequence text,
+    final int digits)
+  {
+    return switch (digits) {
+      case 2 -> 4;
+      case 8 -> 1;
+      default -> throw error(text, "statusLength");
+    };
+  }
+
+  private static int octetEnd(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    int index = start;
+    while (index < end) {
+      final var c = text.charAt(index);
+      if (c == ':' || c == '-') {
+        break;
+      }
+      ++index;
+    }
+    return index;
+  }
+
+  private static boolean isFree(
+    final char c)
+  {
+    return c == 'x' || c == 'X' || c == '?';
+  }
+
+  /**
+   * @return The mask of free bits within the octet
+   */
+
+  private static long scanFree(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final int bitsPerDigit)
+  {
+    final var digitMask = (1L << bitsPerDigit) - 1L;
+    long result = 0L;
+    for (int index = start; index < end; ++index) {
+      result <<= bitsPerDigit;
+      if (isFree(text.charAt(index))) {
+        result |= digitMask;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The values of the fixed bits within the octet, or {@code -1} if
+   * a digit is invalid
+   */
+
+  private static long scanFixed(
+    final CharSequence text,
+    final int start,
+    final int end,
+    final int bitsPerDigit)
+  {
+    final var radix = 1 << bitsPerDigit;
+    long result = 0L;
+    for (int index = start; index < end; ++index) {
+      result <<= bitsPerDigit;
+      final var c = text.charAt(index);
+      if (!isFree(c)) {
+        final var value = MACParsing.hex(c);
+        if (value < 0 || value >= radix) {
+          return -1L;
+        }
+        result |= value;
+      }
+    }
+    return result;
+  }
+
+  private static IllegalArgumentException error(
+    final CharSequence text,
+    final String problem)
+  {
+    return new IllegalArgumentException(
+      MessageFormat.format(
+        RESOURCES.getString("errorTemplate"),
+        VALID_TEMPLATE,
+        text,
+        RESOURCES.getString(problem)
+      )
+    );
+  }
+}
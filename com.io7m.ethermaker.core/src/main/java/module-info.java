@@ -26,6 +26,7 @@ module com.io7m.ethermaker.core
   requires static org.osgi.annotation.versioning;
 
   requires com.io7m.jranges.core;
+  requires com.io7m.junreachable.core;
 
   exports com.io7m.ethermaker.core;
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressBitmapSet;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACAddressBitmapSetTest
+{
+  @Test
+  public void addContains()
+  {
+    final var set = MACAddressBitmapSet.create(0xc4_19_d1_12_34_56L);
+    assertEquals(0xc4_19_d1_00_00_00L, set.organization());
+    assertEquals(1L << 24, set.capacity());
+    assertFalse(set.contains(0xc4_19_d1_00_00_01L));
+    assertTrue(set.add(0xc4_19_d1_00_00_01L));
+    assertFalse(set.add(0xc4_19_d1_00_00_01L));
+    assertTrue(set.contains(0xc4_19_d1_00_00_01L));
+    assertFalse(set.contains(0xc4_19_d2_00_00_01L));
+    assertTrue(set.add(0xc4_19_d1_ff_ff_ffL));
+    assertEquals(2L, set.size());
+
+    final var seen = new ArrayList<Long>();
+    set.forEach(x -> seen.add(Long.valueOf(x)));
+    assertEquals(
+      List.of(
+        Long.valueOf(0xc4_19_d1_00_00_01L),
+        Long.valueOf(0xc4_19_d1_ff_ff_ffL)),
+      seen
+    );
+  }
+
+  @Test
+  public void wrongOrganization()
+  {
+    final var set = MACAddressBitmapSet.create(0xc4_19_d1_00_00_00L);
+    assertThrows(IllegalArgumentException.class, () -> {
+      set.add(0xc4_19_d2_00_00_00L);
+    });
+  }
+
+  @Test
+  public void broadcastExcluded()
+  {
+    final var set = MACAddressBitmapSet.create(MACPacked.BROADCAST);
+    assertEquals((1L << 24) - 1L, set.capacity());
+    assertThrows(IllegalArgumentException.class, () -> {
+      set.add(MACPacked.BROADCAST);
+    });
+  }
+
+  @Test
+  public void exhaustion()
+  {
+    final var set = MACAddressBitmapSet.create(0x52_54_00_00_00_00L);
+    for (long nic = 0L; nic <= MACPacked.NIC_MASK; ++nic) {
+      assertFalse(set.isFull());
+      assertTrue(set.add(0x52_54_00_00_00_00L | nic));
+    }
+    assertTrue(set.isFull());
+    assertEquals(set.capacity(), set.size());
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACPacked;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACAddressHashSetTest
+{
+  @Test
+  public void addContains()
+  {
+    final var set = MACAddressHashSet.create(0L);
+    assertEquals(0L, set.size());
+    assertFalse(set.contains(0L));
+    assertTrue(set.add(0L));
+    assertFalse(set.add(0L));
+    assertTrue(set.contains(0L));
+    assertTrue(set.add(MACPacked.BROADCAST));
+    assertTrue(set.contains(MACPacked.BROADCAST));
+    assertEquals(2L, set.size());
+  }
+
+  @Test
+  public void invalidAddresses()
+  {
+    final var set = MACAddressHashSet.create(1L);
+    assertThrows(IllegalArgumentException.class, () -> set.add(-1L));
+    assertThrows(IllegalArgumentException.class, () -> set.add(1L << 48));
+    assertFalse(set.contains(-1L));
+    assertThrows(RangeCheckException.class, () -> {
+      MACAddressHashSet.create(-1L);
+    });
+  }
+
+  @Test
+  public void agreesWithHashSet()
+  {
+    final var rng = new SplittableRandom(0x5254_00L);
+    final var set = MACAddressHashSet.create(16L);
+    final var expected = new HashSet<Long>();
+
+    for (int index = 0; index < 100_000; ++index) {
+      final var address =
+        0x5254_0000_0000L | (rng.nextLong() & 0x0000_0003_ffffL);
+      assertEquals(
+        Boolean.valueOf(expected.add(Long.valueOf(address))),
+        Boolean.valueOf(set.add(address))
+      );
+    }
+
+    assertEquals(expected.size(), set.size());
+    final var seen = new HashSet<Long>();
+    set.forEach(address -> {
+      assertTrue(expected.contains(Long.valueOf(address)));
+      assertTrue(seen.add(Long.valueOf(address)));
+    });
+    assertEquals(expected, seen);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressPolicy;
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPacked;
+import com.io7m.ethermaker.core.MACTemplates;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACAddressPolicyTest
+{
+  @Test
+  public void unconstrained()
+  {
+    final var policy = MACAddressPolicy.builder().build();
+    assertEquals(0L, policy.constrainedBits());
+    assertEquals(0L, policy.requiredBits());
+    assertEquals(0x03_00_00_00_00_00L, policy.apply(0x03_00_00_00_00_00L));
+    assertEquals(MACMasks.unconstrained(), policy.toMask());
+  }
+
+  @Test
+  public void fusedMatchesChained()
+  {
+    final var policy =
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .setLocallyAdministered(true)
+        .build();
+
+    final var rng = new SplittableRandom(0x5eedL);
+    for (int index = 0; index < 1000; ++index) {
+      final var address = MACAddresses.generate(Optional.empty(), rng);
+      final var chained =
+        MACAddresses.asLocallyAdministered(MACAddresses.asUnicast(address));
+      assertEquals(chained, policy.apply(address));
+
+      final var packed = MACPacked.pack(address);
+      assertEquals(MACPacked.pack(chained), policy.apply(packed));
+      assertTrue(policy.permits(policy.apply(packed)));
+    }
+  }
+
+  @Test
+  public void toMask()
+  {
+    final var policy =
+      MACAddressPolicy.builder()
+        .setMulticast(true)
+        .setLocallyAdministered(false)
+        .build();
+
+    final var mask = policy.toMask();
+    assertEquals(MACPacked.MULTICAST_BIT, mask.fixedBits());
+    assertEquals(46, mask.freeBitCount());
+
+    final var rng = new SplittableRandom(0x5eedL);
+    for (int index = 0; index < 1000; ++index) {
+      final var address = MACAddresses.generatePacked(mask, rng);
+      assertTrue(MACPacked.isMulticast(address));
+      assertFalse(MACPacked.isLocallyAdministered(address));
+      assertTrue(policy.permits(address));
+    }
+  }
+
+  @Test
+  public void constrainAgrees()
+  {
+    final var policy =
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .build();
+
+    final var template = MACTemplates.compile("52:54:00:xx:xx:xx");
+    assertEquals(template, policy.constrain(template));
+  }
+
+  @Test
+  public void constrainConflicts()
+  {
+    final var template = MACTemplates.compile("53:54:00:xx:xx:xx");
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .build()
+        .constrain(template);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACAddressPolicy.builder()
+        .setLocallyAdministered(false)
+        .build()
+        .constrain(template);
+    });
+  }
+
+  @Test
+  public void applyOverridesOrganization()
+  {
+    final var organization = MACMasks.organization(0xc4_19_d1_00_00_00L);
+
+    final var local =
+      MACAddressPolicy.builder()
+        .setLocallyAdministered(true)
+        .build()
+        .apply(organization);
+
+    assertEquals(organization.freeBits(), local.freeBits());
+    assertEquals(0xc6_19_d1_00_00_00L, local.fixedBits());
+
+    final var multicast =
+      MACAddressPolicy.builder()
+        .setMulticast(true)
+        .build()
+        .apply(organization);
+
+    assertEquals(organization.freeBits(), multicast.freeBits());
+    assertEquals(0xc5_19_d1_00_00_00L, multicast.fixedBits());
+  }
+}
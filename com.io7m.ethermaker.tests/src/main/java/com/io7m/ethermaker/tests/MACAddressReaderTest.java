@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressReader;
+import com.io7m.ethermaker.core.MACAddressWriter;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACRecordFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MACAddressReaderTest
+{
+  @Test
+  public void roundTripBinary6()
+    throws Exception
+  {
+    roundTrip(MACRecordFormat.BINARY6);
+  }
+
+  @Test
+  public void roundTripBinary8()
+    throws Exception
+  {
+    roundTrip(MACRecordFormat.BINARY8);
+  }
+
+  private static void roundTrip(
+    final MACRecordFormat format)
+    throws Exception
+  {
+    final var addresses = new long[10000];
+    final var rng = new SplittableRandom(0x5eedL);
+    for (int index = 0; index < addresses.length; ++index) {
+      addresses[index] = rng.nextLong() & 0xffff_ffff_ffffL;
+    }
+
+    final var bytes = new ByteArrayOutputStream();
+    final var writer =
+      MACAddressWriter.create(
+        Channels.newChannel(bytes), format, MACNotation.COLON, 1000);
+    writer.writeAll(addresses, 0, addresses.length);
+    writer.flush();
+
+    assertEquals(
+      addresses.length * format.recordLength(MACNotation.COLON),
+      bytes.size()
+    );
+
+    final var reader =
+      MACAddressReader.create(
+        Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+        format,
+        100);
+
+    final var result = new long[addresses.length];
+    int position = 0;
+    while (true) {
+      final var count =
+        reader.readInto(result, position, Math.min(333, result.length - position));
+      if (count < 0) {
+        break;
+      }
+      position += count;
+    }
+    assertEquals(addresses.length, position);
+    assertArrayEquals(addresses, result);
+  }
+
+  @Test
+  public void binary6Layout()
+    throws Exception
+  {
+    final var bytes = new ByteArrayOutputStream();
+    final var writer =
+      MACAddressWriter.create(
+        Channels.newChannel(bytes), MACRecordFormat.BINARY6, MACNotation.COLON);
+    writer.write(0x00_10_20_30_40_50L);
+    writer.flush();
+
+    assertArrayEquals(
+      new byte[]{0x00, 0x10, 0x20, 0x30, 0x40, 0x50},
+      bytes.toByteArray()
+    );
+  }
+
+  @Test
+  public void truncated()
+  {
+    final var reader =
+      MACAddressReader.create(
+        Channels.newChannel(new ByteArrayInputStream(new byte[8])),
+        MACRecordFormat.BINARY6);
+
+    assertThrows(IOException.class, () -> {
+      final var output = new long[4];
+      assertEquals(1, reader.readInto(output, 0, 4));
+      reader.readInto(output, 0, 4);
+    });
+  }
+
+  @Test
+  public void notPacked()
+  {
+    final var data = new byte[8];
+    Arrays.fill(data, (byte) 0xff);
+
+    final var reader =
+      MACAddressReader.create(
+        Channels.newChannel(new ByteArrayInputStream(data)),
+        MACRecordFormat.BINARY8);
+
+    assertThrows(IOException.class, () -> {
+      reader.readInto(new long[1], 0, 1);
+    });
+  }
+
+  @Test
+  public void textUnsupported()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACAddressReader.create(
+        Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+        MACRecordFormat.TEXT);
+    });
+  }
+}
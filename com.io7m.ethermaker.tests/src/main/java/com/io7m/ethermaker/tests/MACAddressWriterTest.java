@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressWriter;
+import com.io7m.ethermaker.core.MACFormatting;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MACAddressWriterTest
+{
+  @Test
+  public void writeSmallBuffer()
+    throws Exception
+  {
+    final var bytes = new ByteArrayOutputStream();
+    final var channel = Channels.newChannel(bytes);
+    final var writer =
+      MACAddressWriter.create(channel, MACNotation.DOTTED, 40);
+
+    final var rng = new SplittableRandom(0x5eedL);
+    final var expected = new StringBuilder();
+    for (int index = 0; index < 1000; ++index) {
+      final var address = rng.nextLong() & 0xffff_ffff_ffffL;
+      writer.write(address);
+      expected.append(MACFormatting.format(address, MACNotation.DOTTED));
+      expected.append('\n');
+    }
+    writer.flush();
+
+    assertEquals(
+      expected.toString(),
+      bytes.toString(StandardCharsets.US_ASCII)
+    );
+  }
+
+  @Test
+  public void writeAllFile(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("addresses.txt");
+    final var addresses = new long[5000];
+    final var rng = new SplittableRandom(0x5eedL);
+    final var expected = new ArrayList<String>();
+    for (int index = 0; index < addresses.length; ++index) {
+      addresses[index] = rng.nextLong() & 0xffff_ffff_ffffL;
+      if (index >= 10) {
+        expected.add(MACFormatting.format(addresses[index]));
+      }
+    }
+
+    try (var channel = FileChannel.open(file, CREATE, WRITE)) {
+      final var writer =
+        MACAddressWriter.create(channel, MACNotation.COLON, 4096);
+      writer.writeAll(addresses, 10, addresses.length - 10);
+      writer.flush();
+    }
+
+    assertEquals(expected, Files.readAllLines(file));
+  }
+
+  @Test
+  public void bufferTooSmall()
+  {
+    final var channel = Channels.newChannel(new ByteArrayOutputStream());
+    assertThrows(RangeCheckException.class, () -> {
+      MACAddressWriter.create(channel, MACNotation.COLON, 17);
+    });
+  }
+}
@@ -18,6 +18,7 @@ package com.io7m.ethermaker.tests;
 
 import com.io7m.ethermaker.core.MACAddress;
 import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACParseStatus;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -26,6 +27,9 @@ import org.slf4j.LoggerFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -123,6 +127,135 @@ public final class MACAddressesTest
     assertEquals("001020", addr.organization());
   }
 
+  @Test
+  public void parseOKMixedCase()
+  {
+    final var addr = MACAddresses.parse("aA:bB:Cc:0f:F0:99");
+    assertEquals("aa:bb:cc:0f:f0:99", addr.toString());
+  }
+
+  @Test
+  public void parseNotations()
+  {
+    for (final var text : new String[]{
+      "58:9c:fc:10:93:1f",
+      "58-9C-fc-10-93-1F",
+      "589c.FC10.931f",
+      "589Cfc10931f",
+      "  589c.fc10.931f\t",
+    }) {
+      assertEquals(
+        0x58_9c_fc_10_93_1fL,
+        MACAddresses.parsePacked(text),
+        text);
+    }
+  }
+
+  @Test
+  public void parseNotationsFailed()
+  {
+    for (final var text : new String[]{
+      "58-9c:fc-10-93-1f",
+      "58:9c:fc:10:93-1f",
+      "589c:fc10:931f",
+      "589c.fc10-931f",
+      "589cfc10931",
+      "589cfc10931g",
+      "58.9c.fc.10.93.1f",
+    }) {
+      assertTrue(
+        MACParseStatus.isError(MACAddresses.tryParsePacked(text)),
+        text);
+    }
+  }
+
+  @Test
+  public void parsePackedRange()
+  {
+    final var buffer = new StringBuilder(64);
+    buffer.append("xx 00:10:20:30:40:50 yy");
+    assertEquals(
+      0x00_10_20_30_40_50L,
+      MACAddresses.parsePacked(buffer, 2, 21));
+    assertEquals(
+      MACAddresses.parse("00:10:20:30:40:50"),
+      MACAddresses.parse(buffer.subSequence(3, 20)));
+  }
+
+  @Test
+  public void parsePackedRangeOutOfBounds()
+  {
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACAddresses.parsePacked("00:10:20:30:40:50", 0, 18);
+    });
+  }
+
+  @Test
+  public void parseFailedCharacters()
+  {
+    for (final var text : new String[]{
+      "00:10:20:30:40:5g",
+      "00:10:20:30:40:5\u0660",
+      "00-10:20:30:40:50",
+      "00:10:20:30:40:50:",
+      "0:010:20:30:40:50",
+      "",
+    }) {
+      assertThrows(IllegalArgumentException.class, () -> {
+        MACAddresses.parse(text);
+      });
+    }
+  }
+
+  @Test
+  public void tryParseOK()
+  {
+    final var result = MACAddresses.tryParsePacked(" 00:10:20:30:40:50 ");
+    assertFalse(MACParseStatus.isError(result));
+    assertEquals(MACParseStatus.OK, MACParseStatus.ofResult(result));
+    assertEquals(0x00_10_20_30_40_50L, result);
+    assertEquals(
+      Optional.of(MACAddresses.parse("00:10:20:30:40:50")),
+      MACAddresses.tryParse("00:10:20:30:40:50"));
+  }
+
+  @Test
+  public void tryParseErrors()
+  {
+    assertEquals(
+      MACParseStatus.ERROR_LENGTH,
+      MACParseStatus.ofResult(MACAddresses.tryParsePacked("x")));
+    assertEquals(
+      MACParseStatus.ERROR_SEPARATOR,
+      MACParseStatus.ofResult(MACAddresses.tryParsePacked("00:10:20:30:40-50")));
+    assertEquals(
+      MACParseStatus.ERROR_DIGIT,
+      MACParseStatus.ofResult(MACAddresses.tryParsePacked("00:10:20:30:40:5z")));
+    assertEquals(
+      MACParseStatus.ERROR_LENGTH,
+      MACParseStatus.ofResult(MACAddresses.tryParseOrganizationPacked("fffffff")));
+    assertEquals(
+      MACParseStatus.ERROR_DIGIT,
+      MACParseStatus.ofResult(MACAddresses.tryParseOrganizationPacked("fffffz")));
+    assertEquals(
+      Optional.empty(),
+      MACAddresses.tryParse("x"));
+  }
+
+  @Test
+  public void tryParseMessage()
+  {
+    final var result = MACAddresses.tryParsePacked("00:10:20:30:40:5z");
+    final var message = MACAddresses.parseErrorMessage(result, "00:10:20:30:40:5z");
+    LOG.debug("message: {}", message);
+    assertTrue(message.contains("00:10:20:30:40:5z"));
+
+    final var ex = assertThrows(IllegalArgumentException.class, () -> {
+      MACAddresses.parse("00:10:20:30:40:5z");
+    });
+    assertEquals(message, ex.getMessage());
+  }
+
   @Test
   public void parseOrgOK()
   {
@@ -211,4 +344,21 @@ public final class MACAddressesTest
         Boolean.valueOf(address.isMulticast()));
     }
   }
+
+  @Test
+  public void generationRandomGenerator()
+  {
+    final var rng0 = new SplittableRandom(0x1234L);
+    final var rng1 = new SplittableRandom(0x1234L);
+    final var rng2 = new Random(0x1234L);
+    final var rng3 = new Random(0x1234L);
+    for (int index = 0; index < 1000; ++index) {
+      assertEquals(
+        MACAddresses.generate(Optional.empty(), rng0),
+        MACAddresses.generate(Optional.empty(), rng1));
+      assertEquals(
+        MACAddresses.generate(Optional.empty(), rng2),
+        MACAddresses.generate(Optional.empty(), (RandomGenerator) rng3));
+    }
+  }
 }
@@ -0,0 +1,394 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressBitmapSet;
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACAddressPolicy;
+import com.io7m.ethermaker.core.MACAddressReader;
+import com.io7m.ethermaker.core.MACAddressWriter;
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACAllocator;
+import com.io7m.ethermaker.core.MACBytes;
+import com.io7m.ethermaker.core.MACFormatting;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACPermutation;
+import com.io7m.ethermaker.core.MACPrefixIndex;
+import com.io7m.ethermaker.core.MACRecordFormat;
+import com.io7m.ethermaker.core.MACRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Check that the APIs documented as allocation-free do not allocate. Each
+ * operation is warmed up, and then the bytes allocated by the current thread
+ * over a large number of operations are measured; a small fixed budget
+ * covers the measurement itself.
+ */
+
+public final class MACAllocationTest
+{
+  private static final int WARMUP = 50_000;
+  private static final int ITERATIONS = 100_000;
+  private static final long BUDGET = 1024L;
+  private static final int COUNT = 1024;
+  private static final int BULK_LINES = 64;
+
+  private static com.sun.management.ThreadMXBean THREADS;
+  private static String[] TEXTS;
+  private static long[] ADDRESSES;
+  private static long SINK;
+
+  private interface OperationType
+  {
+    long run(int index)
+      throws Exception;
+  }
+
+  @BeforeAll
+  public static void setup()
+  {
+    final var bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    THREADS = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+    THREADS.setThreadAllocatedMemoryEnabled(true);
+
+    final var rng = new SplittableRandom(0x5eedL);
+    TEXTS = new String[COUNT];
+    ADDRESSES = new long[COUNT];
+    for (int index = 0; index < COUNT; ++index) {
+      ADDRESSES[index] = rng.nextLong() & 0xffff_ffff_ffffL;
+      TEXTS[index] = MACFormatting.format(ADDRESSES[index]);
+    }
+  }
+
+  private static void assertAllocationFree(
+    final String name,
+    final OperationType operation)
+    throws Exception
+  {
+    assertAllocationAtMost(name, 0L, operation);
+  }
+
+  private static void assertAllocationAtMost(
+    final String name,
+    final long bytesPerOperation,
+    final OperationType operation)
+    throws Exception
+  {
+    long sink = 0L;
+    for (int index = 0; index < WARMUP; ++index) {
+      sink += operation.run(index);
+    }
+
+    final var before = THREADS.getCurrentThreadAllocatedBytes();
+    for (int index = 0; index < ITERATIONS; ++index) {
+      sink += operation.run(index);
+    }
+    final var after = THREADS.getCurrentThreadAllocatedBytes();
+    SINK += sink;
+
+    final var allocated = after - before;
+    assertTrue(
+      allocated <= BUDGET + bytesPerOperation * ITERATIONS,
+      () -> "%s allocated %d bytes over %d operations (%.2f bytes/op)".formatted(
+        name,
+        Long.valueOf(allocated),
+        Integer.valueOf(ITERATIONS),
+        Double.valueOf((double) allocated / (double) ITERATIONS))
+    );
+  }
+
+  @Test
+  public void parse()
+    throws Exception
+  {
+    assertAllocationFree("parsePacked", index -> {
+      return MACAddresses.parsePacked(TEXTS[index & (COUNT - 1)]);
+    });
+    assertAllocationFree("tryParsePacked", index -> {
+      return MACAddresses.tryParsePacked(TEXTS[index & (COUNT - 1)]);
+    });
+    assertAllocationFree("tryParsePacked (invalid)", index -> {
+      return MACAddresses.tryParsePacked("00:11:22:33:44:5g");
+    });
+  }
+
+  @Test
+  public void parseBulk()
+    throws Exception
+  {
+    final var text = new StringBuilder();
+    for (int index = 0; index < BULK_LINES; ++index) {
+      text.append(TEXTS[index]);
+      text.append('\n');
+    }
+    final var buffer =
+      ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+    final var total = new long[1];
+    final LongConsumer receiver = address -> total[0] += address;
+
+    /*
+     * Each call allocates a small parser; no allocation is permitted for
+     * each parsed line.
+     */
+
+    assertAllocationAtMost("parseInto", BULK_LINES, index -> {
+      buffer.rewind();
+      return MACAddresses.parseInto(buffer, receiver);
+    });
+  }
+
+  @Test
+  public void format()
+    throws Exception
+  {
+    final var bytes = new byte[MACFormatting.ADDRESS_LENGTH];
+    final var chars = new char[MACFormatting.ADDRESS_LENGTH];
+
+    assertAllocationFree("formatInto (bytes)", index -> {
+      return MACFormatting.formatInto(
+        ADDRESSES[index & (COUNT - 1)], MACNotation.HYPHEN, bytes, 0);
+    });
+    assertAllocationFree("formatInto (chars)", index -> {
+      return MACFormatting.formatInto(
+        ADDRESSES[index & (COUNT - 1)], MACNotation.DOTTED, chars, 0);
+    });
+  }
+
+  @Test
+  public void generate()
+    throws Exception
+  {
+    final var rng = new SplittableRandom(0x5eedL);
+    final var mask =
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .build()
+        .constrain(MACMasks.organization(0x52_54_00_00_00_00L));
+    final var batch = new long[64];
+
+    assertAllocationFree("generatePacked", index -> {
+      return MACAddresses.generatePacked(mask, rng);
+    });
+    assertAllocationFree("generateInto", index -> {
+      MACAddresses.generateInto(mask, rng, batch, 0, batch.length);
+      return batch[index & 63];
+    });
+  }
+
+  @Test
+  public void permutation()
+    throws Exception
+  {
+    final var permutation =
+      MACPermutation.create(MACMasks.unconstrained(), 0x5eedL);
+    final var allocator =
+      MACAllocator.create(permutation, 4096, 0L);
+    final var batch = new long[64];
+
+    assertAllocationFree("address", index -> {
+      return permutation.address(index);
+    });
+    assertAllocationFree("addressesInto", index -> {
+      permutation.addressesInto(index, batch, 0, batch.length);
+      return batch[index & 63];
+    });
+    assertAllocationFree("allocate", index -> {
+      return allocator.allocate();
+    });
+  }
+
+  @Test
+  public void policy()
+    throws Exception
+  {
+    final var policy =
+      MACAddressPolicy.builder()
+        .setMulticast(false)
+        .setLocallyAdministered(true)
+        .build();
+
+    assertAllocationFree("apply", index -> {
+      return policy.apply(ADDRESSES[index & (COUNT - 1)]);
+    });
+  }
+
+  @Test
+  public void sets()
+    throws Exception
+  {
+    final var hash = MACAddressHashSet.create(WARMUP + ITERATIONS);
+    final var bitmap = MACAddressBitmapSet.create(0x52_54_00_00_00_00L);
+
+    assertAllocationFree("hash add", index -> {
+      return hash.add(index) ? 1L : 0L;
+    });
+    assertAllocationFree("hash contains", index -> {
+      return hash.contains(index) ? 1L : 0L;
+    });
+    assertAllocationFree("bitmap add", index -> {
+      return bitmap.add(0x52_54_00_00_00_00L | index) ? 1L : 0L;
+    });
+  }
+
+  @Test
+  public void registry()
+    throws Exception
+  {
+    final var registry = MACRegistry.builtin();
+    final var index = MACPrefixIndex.create(registry);
+
+    assertAllocationFree("registry lookup", i -> {
+      return registry.lookup(ADDRESSES[i & (COUNT - 1)]);
+    });
+    assertAllocationFree("index lookup", i -> {
+      return index.lookup(ADDRESSES[i & (COUNT - 1)]);
+    });
+  }
+
+  @Test
+  public void bytes()
+    throws Exception
+  {
+    final var array = new byte[16];
+    final var heap = ByteBuffer.allocate(16);
+    final var direct = ByteBuffer.allocateDirect(16);
+
+    assertAllocationFree("array", index -> {
+      MACBytes.putInto(ADDRESSES[index & (COUNT - 1)], array, 3);
+      return MACBytes.getPacked(array, 3);
+    });
+    assertAllocationFree("heap buffer", index -> {
+      MACBytes.putInto(ADDRESSES[index & (COUNT - 1)], heap, 5);
+      return MACBytes.getPacked(heap, 5);
+    });
+    assertAllocationFree("direct buffer", index -> {
+      MACBytes.putInto(ADDRESSES[index & (COUNT - 1)], direct, 7);
+      return MACBytes.getPacked(direct, 7);
+    });
+  }
+
+  @Test
+  public void records()
+    throws Exception
+  {
+    final var text =
+      MACAddressWriter.create(new DiscardChannel(), MACNotation.COLON, 4096);
+    final var binary =
+      MACAddressWriter.create(
+        new DiscardChannel(), MACRecordFormat.BINARY6, MACNotation.COLON, 4096);
+    final var reader =
+      MACAddressReader.create(new PatternChannel(), MACRecordFormat.BINARY8, 4096);
+    final var batch = new long[64];
+
+    assertAllocationFree("write text", index -> {
+      text.write(ADDRESSES[index & (COUNT - 1)]);
+      return 0L;
+    });
+    assertAllocationFree("write binary", index -> {
+      binary.write(ADDRESSES[index & (COUNT - 1)]);
+      return 0L;
+    });
+    assertAllocationFree("read binary", index -> {
+      return reader.readInto(batch, 0, batch.length);
+    });
+  }
+
+  private static final class DiscardChannel implements WritableByteChannel
+  {
+    DiscardChannel()
+    {
+
+    }
+
+    @Override
+    public int write(
+      final ByteBuffer source)
+    {
+      final var size = source.remaining();
+      source.position(source.limit());
+      return size;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return true;
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+
+  /**
+   * An endless channel of BINARY8 records containing the address
+   * 00:00:00:00:00:2a.
+   */
+
+  private static final class PatternChannel implements ReadableByteChannel
+  {
+    private long position;
+
+    PatternChannel()
+    {
+
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer target)
+      throws IOException
+    {
+      final var size = target.remaining();
+      while (target.hasRemaining()) {
+        target.put((this.position & 7L) == 7L ? (byte) 0x2a : (byte) 0);
+        ++this.position;
+      }
+      return size;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return true;
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressBitmapSet;
+import com.io7m.ethermaker.core.MACAllocator;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPermutation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACAllocatorTest
+{
+  private static final long ORGANIZATION = 0xc4_19_d1_00_00_00L;
+
+  @Test
+  public void uniqueAcrossThreads()
+    throws Exception
+  {
+    final var permutation =
+      MACPermutation.create(MACMasks.organization(ORGANIZATION), 0x5eedL);
+    final var allocator = MACAllocator.create(permutation, 64, 0L);
+
+    final var threads = 16;
+    final var perThread = 20_000;
+    final var start = new CountDownLatch(1);
+    final var futures = new ArrayList<Future<long[]>>();
+
+    try (var executor = Executors.newFixedThreadPool(threads)) {
+      for (int thread = 0; thread < threads; ++thread) {
+        final var odd = (thread & 1) == 1;
+        futures.add(executor.submit(() -> {
+          final var results = new long[perThread];
+          start.await();
+          if (odd) {
+            allocator.allocateInto(results, 0, perThread);
+          } else {
+            for (int index = 0; index < perThread; ++index) {
+              results[index] = allocator.allocate();
+            }
+          }
+          return results;
+        }));
+      }
+      start.countDown();
+
+      final var seen = MACAddressBitmapSet.create(ORGANIZATION);
+      for (final var future : futures) {
+        for (final var address : future.get()) {
+          assertTrue(seen.add(address));
+        }
+      }
+      assertEquals((long) threads * perThread, seen.size());
+    }
+  }
+
+  @Test
+  public void exhaustion()
+  {
+    final var mask =
+      MACMasks.organization(ORGANIZATION)
+        .withFixed(0xffff00L, 0L);
+    final var permutation = MACPermutation.create(mask, 0L);
+    final var allocator = MACAllocator.create(permutation, 100, 0L);
+
+    final var seen = MACAddressBitmapSet.create(ORGANIZATION);
+    for (int index = 0; index < 256; ++index) {
+      assertTrue(seen.add(allocator.allocate()));
+    }
+    assertEquals(0L, allocator.unreserved());
+    assertThrows(IllegalStateException.class, allocator::allocate);
+    assertThrows(IllegalStateException.class, () -> {
+      allocator.allocateInto(new long[1], 0, 1);
+    });
+  }
+
+  @Test
+  public void startIndex()
+  {
+    final var permutation =
+      MACPermutation.create(MACMasks.organization(ORGANIZATION), 0x5eedL);
+    final var allocator = MACAllocator.create(permutation, 8, 1000L);
+
+    for (long index = 1000L; index < 1100L; ++index) {
+      assertEquals(permutation.address(index), allocator.allocate());
+    }
+  }
+}
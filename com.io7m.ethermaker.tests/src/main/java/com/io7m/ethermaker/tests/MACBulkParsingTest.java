@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACParseStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class MACBulkParsingTest
+{
+  private static final String TEXT = """
+    58:9c:fc:10:93:1f
+
+    58-9c-fc-10-93-20\r
+       589c.fc10.9321
+    not an address
+    589cfc109322
+    58:9c:fc:10:93:2""";
+
+  private static final List<Long> EXPECTED =
+    List.of(
+      Long.valueOf(0x58_9c_fc_10_93_1fL),
+      Long.valueOf(0x58_9c_fc_10_93_20L),
+      Long.valueOf(0x58_9c_fc_10_93_21L),
+      Long.valueOf(0x58_9c_fc_10_93_22L)
+    );
+
+  private static final List<String> EXPECTED_ERRORS =
+    List.of(
+      "5 ERROR_SEPARATOR",
+      "7 ERROR_LENGTH"
+    );
+
+  @Test
+  public void parseBuffer()
+  {
+    final var buffer =
+      ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.US_ASCII));
+    final var addresses = new ArrayList<Long>();
+    final var errors = new ArrayList<String>();
+
+    final var rejected =
+      MACAddresses.parseInto(
+        buffer,
+        x -> addresses.add(Long.valueOf(x)),
+        (line, result) -> {
+          errors.add(line + " " + MACParseStatus.ofResult(result));
+        });
+
+    assertEquals(2L, rejected);
+    assertEquals(EXPECTED, addresses);
+    assertEquals(EXPECTED_ERRORS, errors);
+    assertEquals(buffer.limit(), buffer.position());
+  }
+
+  @Test
+  public void parseDirectBuffer()
+  {
+    final var bytes = TEXT.getBytes(StandardCharsets.US_ASCII);
+    final var buffer = ByteBuffer.allocateDirect(bytes.length + 8);
+    buffer.position(8);
+    buffer.put(bytes);
+    buffer.position(8);
+
+    final var addresses = new ArrayList<Long>();
+    MACAddresses.parseInto(buffer, x -> addresses.add(Long.valueOf(x)));
+    assertEquals(EXPECTED, addresses);
+  }
+
+  @Test
+  public void parseFile(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("addresses.txt");
+    Files.writeString(file, TEXT, StandardCharsets.US_ASCII);
+
+    final var addresses = new ArrayList<Long>();
+    final var errors = new ArrayList<String>();
+    final var rejected =
+      MACAddresses.parseAll(
+        file,
+        x -> addresses.add(Long.valueOf(x)),
+        (line, result) -> {
+          errors.add(line + " " + MACParseStatus.ofResult(result));
+        });
+
+    assertEquals(2L, rejected);
+    assertEquals(EXPECTED, addresses);
+    assertEquals(EXPECTED_ERRORS, errors);
+  }
+
+  @Test
+  public void parseFileEmpty(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("addresses.txt");
+    Files.writeString(file, "", StandardCharsets.US_ASCII);
+
+    final var addresses = new ArrayList<Long>();
+    assertEquals(
+      0L,
+      MACAddresses.parseAll(file, x -> addresses.add(Long.valueOf(x))));
+    assertEquals(List.of(), addresses);
+  }
+}
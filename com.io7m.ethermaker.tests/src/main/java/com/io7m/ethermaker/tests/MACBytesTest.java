@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACBytes;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACBytesTest
+{
+  private static final byte[] FRAME = {
+    (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+    (byte) 0x58, (byte) 0x9c, (byte) 0xfc, (byte) 0x10, (byte) 0x93, (byte) 0x1f,
+    (byte) 0x08, (byte) 0x06,
+  };
+
+  @Test
+  public void frameArray()
+  {
+    final var destination =
+      MACBytes.getPacked(FRAME, MACBytes.ETHERNET_DESTINATION_OFFSET);
+    final var source =
+      MACBytes.getPacked(FRAME, MACBytes.ETHERNET_SOURCE_OFFSET);
+
+    assertTrue(MACPacked.isBroadcast(destination));
+    assertEquals(0x58_9c_fc_10_93_1fL, source);
+    assertFalse(MACPacked.isMulticast(source));
+  }
+
+  @Test
+  public void frameBuffer()
+  {
+    for (final var order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      final var buffer = ByteBuffer.wrap(FRAME).order(order);
+      assertEquals(
+        0x58_9c_fc_10_93_1fL,
+        MACBytes.getPacked(buffer, MACBytes.ETHERNET_SOURCE_OFFSET));
+      assertEquals(0, buffer.position());
+
+      assertEquals(MACPacked.BROADCAST, MACBytes.getPacked(buffer));
+      assertEquals(0x58_9c_fc_10_93_1fL, MACBytes.getPacked(buffer));
+      assertEquals(12, buffer.position());
+      assertThrows(BufferUnderflowException.class, () -> MACBytes.getPacked(buffer));
+      assertEquals(12, buffer.position());
+    }
+  }
+
+  @Test
+  public void roundTrip()
+  {
+    final var rng = new SplittableRandom(0x5eedL);
+    final var array = new byte[16];
+    final var heap = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+    final var direct = ByteBuffer.allocateDirect(16);
+
+    for (int index = 0; index < 1000; ++index) {
+      final var address = rng.nextLong() & MACPacked.ADDRESS_MASK;
+      final var offset = rng.nextInt(11);
+
+      assertEquals(offset + 6, MACBytes.putInto(address, array, offset));
+      assertEquals(address, MACBytes.getPacked(array, offset));
+
+      MACBytes.putInto(address, heap, offset);
+      MACBytes.putInto(address, direct, offset);
+      assertEquals(address, MACBytes.getPacked(heap, offset));
+      assertEquals(address, MACBytes.getPacked(direct, offset));
+      assertEquals(address, MACBytes.getPacked(array, offset));
+      assertEquals(address, MACBytes.getPacked(ByteBuffer.wrap(heap.array()), offset));
+    }
+  }
+
+  @Test
+  public void relativePut()
+  {
+    final var buffer = ByteBuffer.allocate(8);
+    MACBytes.putInto(0x00_10_20_30_40_50L, buffer);
+    assertEquals(6, buffer.position());
+    assertThrows(BufferOverflowException.class, () -> {
+      MACBytes.putInto(0L, buffer);
+    });
+    assertArrayEquals(
+      new byte[]{0x00, 0x10, 0x20, 0x30, 0x40, 0x50, 0x00, 0x00},
+      buffer.array()
+    );
+  }
+
+  @Test
+  public void addresses()
+  {
+    final var address = MACAddresses.parse("58:9c:fc:10:93:1f");
+    final var bytes = MACBytes.toBytes(address);
+    assertArrayEquals(
+      new byte[]{(byte) 0x58, (byte) 0x9c, (byte) 0xfc, 0x10, (byte) 0x93, 0x1f},
+      bytes
+    );
+    assertEquals(address, MACBytes.fromBytes(bytes, 0));
+  }
+
+  @Test
+  public void outOfBounds()
+  {
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACBytes.getPacked(FRAME, 9);
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACBytes.putInto(0L, ByteBuffer.allocate(8), 3);
+    });
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACEntropyPool;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACEntropyPoolTest
+{
+  private static SecureRandom seeded()
+    throws Exception
+  {
+    final var random = SecureRandom.getInstance("SHA1PRNG");
+    random.setSeed(0x1234L);
+    return random;
+  }
+
+  @Test
+  public void slicesSourceInOrder()
+    throws Exception
+  {
+    final var reference = seeded();
+    final var expected = ByteBuffer.wrap(new byte[60 * 10]);
+    reference.nextBytes(expected.array());
+
+    try (var pool = MACEntropyPool.create(seeded(), 60)) {
+      for (int index = 0; index < 100; ++index) {
+        final var high = expected.getShort() & 0xffffL;
+        final var low = expected.getInt() & 0xffff_ffffL;
+        assertEquals((high << 32) | low, pool.next48());
+      }
+    }
+  }
+
+  @Test
+  public void longsDiscardBlockTails()
+    throws Exception
+  {
+    final var reference = seeded();
+    final var expected = ByteBuffer.wrap(new byte[12 * 10]);
+    reference.nextBytes(expected.array());
+
+    try (var pool = MACEntropyPool.create(seeded(), 12)) {
+      for (int index = 0; index < 10; ++index) {
+        assertEquals(expected.getLong(), pool.nextLong());
+        assertEquals(expected.getInt(), pool.nextInt());
+      }
+    }
+  }
+
+  @Test
+  public void generateMasked()
+  {
+    final var mask = MACMasks.unicast(MACMasks.organization(0x00_10_20_00_00_00L));
+    try (var pool = MACEntropyPool.create(new SecureRandom(), 1024)) {
+      final var output = new long[10_000];
+      MACAddresses.generateInto(mask, pool, output, 0, output.length);
+      for (final var address : output) {
+        assertTrue(mask.contains(address));
+      }
+      assertNotEquals(output[0], output[1]);
+    }
+  }
+
+  @Test
+  public void threads()
+    throws Exception
+  {
+    try (var pool = MACEntropyPool.create(new SecureRandom(), 4096)) {
+      final var futures = new ArrayList<Future<Long>>();
+      try (var executor = Executors.newFixedThreadPool(8)) {
+        for (int thread = 0; thread < 8; ++thread) {
+          futures.add(executor.submit(() -> {
+            long bits = 0L;
+            for (int index = 0; index < 100_000; ++index) {
+              final var value = pool.next48();
+              assertEquals(0L, value & ~MACPacked.ADDRESS_MASK);
+              bits |= value;
+            }
+            return Long.valueOf(bits);
+          }));
+        }
+        for (final var future : futures) {
+          assertEquals(MACPacked.ADDRESS_MASK, future.get().longValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void closed()
+  {
+    final var pool = MACEntropyPool.create(new SecureRandom(), 8);
+    pool.nextLong();
+    pool.close();
+    assertThrows(IllegalStateException.class, pool::nextLong);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACFormatting;
+import com.io7m.ethermaker.core.MACNotation;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MACFormattingTest
+{
+  @Test
+  public void formatAgreesWithFormatter()
+  {
+    final var rng = new SplittableRandom(0x589c_fc10_931fL);
+    final var chars = new char[MACFormatting.ADDRESS_LENGTH + 2];
+    final var bytes = new byte[MACFormatting.ADDRESS_LENGTH + 2];
+    final var builder = new StringBuilder();
+
+    for (int index = 0; index < 10_000; ++index) {
+      final var address = rng.nextLong() & MACPacked.ADDRESS_MASK;
+      final var expected = String.format(
+        "%02x:%02x:%02x:%02x:%02x:%02x",
+        Integer.valueOf(MACPacked.octet(address, 0)),
+        Integer.valueOf(MACPacked.octet(address, 1)),
+        Integer.valueOf(MACPacked.octet(address, 2)),
+        Integer.valueOf(MACPacked.octet(address, 3)),
+        Integer.valueOf(MACPacked.octet(address, 4)),
+        Integer.valueOf(MACPacked.octet(address, 5))
+      );
+
+      assertEquals(expected, MACFormatting.format(address));
+      assertEquals(expected, MACPacked.unpack(address).toString());
+      assertEquals(
+        expected.replace(":", "").substring(0, 6),
+        MACFormatting.formatOrganization(address));
+
+      assertEquals(19, MACFormatting.formatInto(address, chars, 2));
+      assertEquals(expected, String.valueOf(chars, 2, 17));
+      assertEquals(19, MACFormatting.formatInto(address, bytes, 2));
+      assertEquals(
+        expected,
+        new String(bytes, 2, 17, StandardCharsets.US_ASCII));
+
+      builder.setLength(0);
+      MACFormatting.appendTo(address, builder);
+      builder.append('/');
+      MACFormatting.appendOrganizationTo(address, builder);
+      assertEquals(
+        expected + "/" + MACFormatting.formatOrganization(address),
+        builder.toString());
+    }
+  }
+
+  @Test
+  public void formatNotations()
+  {
+    final var address = 0x58_9c_fc_10_93_1fL;
+    assertEquals(
+      "58:9c:fc:10:93:1f",
+      MACFormatting.format(address, MACNotation.COLON));
+    assertEquals(
+      "58-9c-fc-10-93-1f",
+      MACFormatting.format(address, MACNotation.HYPHEN));
+    assertEquals(
+      "589c.fc10.931f",
+      MACFormatting.format(address, MACNotation.DOTTED));
+    assertEquals(
+      "589cfc10931f",
+      MACFormatting.format(address, MACNotation.BARE));
+
+    for (final var notation : MACNotation.values()) {
+      final var text = MACFormatting.format(address, notation);
+      assertEquals(notation.length(), text.length());
+      assertEquals(address, MACAddresses.parsePacked(text));
+
+      final var bytes = new byte[notation.length()];
+      MACFormatting.formatInto(address, notation, bytes, 0);
+      assertEquals(text, new String(bytes, StandardCharsets.US_ASCII));
+
+      final var builder = new StringBuilder();
+      MACFormatting.appendTo(address, notation, builder);
+      assertEquals(text, builder.toString());
+    }
+  }
+
+  @Test
+  public void formatIntoTooSmall()
+  {
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACFormatting.formatInto(0L, new char[17], 1);
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACFormatting.formatInto(0L, new byte[16], 0);
+    });
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACMask;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACMaskTest
+{
+  @Test
+  public void organizationMask()
+  {
+    final var mask =
+      MACMasks.organization(MACPacked.of(0xc4, 0x19, 0xd1, 0xaa, 0xbb, 0xcc));
+
+    assertEquals(MACPacked.NIC_MASK, mask.freeBits());
+    assertEquals(0xc4_19_d1_00_00_00L, mask.fixedBits());
+    assertEquals(24, mask.freeBitCount());
+    assertEquals(1L << 24, mask.size());
+    assertTrue(mask.contains(0xc4_19_d1_01_02_03L));
+    assertFalse(mask.contains(0xc4_19_d2_01_02_03L));
+  }
+
+  @Test
+  public void flagMasks()
+  {
+    final var mask =
+      MACMasks.locallyAdministered(MACMasks.unicast(MACMasks.unconstrained()));
+
+    assertEquals(46, mask.freeBitCount());
+    assertEquals(MACPacked.LOCAL_BIT, mask.fixedBits());
+
+    final var flipped = MACMasks.ouiEnforced(MACMasks.multicast(mask));
+    assertEquals(46, flipped.freeBitCount());
+    assertEquals(MACPacked.MULTICAST_BIT, flipped.fixedBits());
+  }
+
+  @Test
+  public void overlapRejected()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACMask.builder()
+        .setFreeBits(MACPacked.NIC_MASK)
+        .setFixedBits(1L)
+        .build();
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACMask.builder()
+        .setFreeBits(-1L)
+        .setFixedBits(0L)
+        .build();
+    });
+  }
+
+  @Test
+  public void generateRespectsMask()
+  {
+    final var mask =
+      MACMasks.locallyAdministered(
+        MACMasks.unicast(
+          MACMasks.organization(0xc4_19_d1_00_00_00L)));
+
+    final var rng = new SplittableRandom(0x1234L);
+    final var output = new long[10_000];
+    MACAddresses.generateInto(mask, rng, output, 0, output.length);
+    for (final var address : output) {
+      assertTrue(mask.contains(address));
+      assertFalse(MACPacked.isMulticast(address));
+      assertTrue(MACPacked.isLocallyAdministered(address));
+    }
+  }
+
+  @Test
+  public void generateRange()
+  {
+    final var rng = new SplittableRandom(0x1234L);
+    final var output = new long[8];
+    MACAddresses.generateInto(MACMasks.unconstrained(), rng, output, 2, 4);
+    assertEquals(0L, output[0]);
+    assertEquals(0L, output[1]);
+    assertNotEquals(0L, output[2]);
+    assertNotEquals(0L, output[5]);
+    assertEquals(0L, output[6]);
+    assertEquals(0L, output[7]);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      MACAddresses.generateInto(MACMasks.unconstrained(), rng, output, 6, 4);
+    });
+  }
+
+  @Test
+  public void generateNeverBroadcast()
+  {
+    final var mask =
+      MACMask.builder()
+        .setFreeBits(0x3L)
+        .setFixedBits(MACPacked.BROADCAST & ~0x3L)
+        .build();
+
+    final var rng = new SplittableRandom(0x1234L);
+    final var output = new long[1000];
+    MACAddresses.generateInto(mask, rng, output, 0, output.length);
+    for (final var address : output) {
+      assertNotEquals(MACPacked.BROADCAST, address);
+    }
+  }
+
+  @Test
+  public void generateOnlyBroadcastRejected()
+  {
+    final var mask =
+      MACMasks.unconstrained()
+        .withFixed(MACPacked.ADDRESS_MASK, MACPacked.BROADCAST);
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACAddresses.generatePacked(mask, new SplittableRandom(0L));
+    });
+  }
+
+  @Test
+  public void generateBuffers()
+  {
+    final var mask = MACMasks.organization(0x00_10_20_00_00_00L);
+    final var heap = LongBuffer.allocate(100);
+    final var direct = ByteBuffer.allocateDirect(100 * 8).asLongBuffer();
+
+    heap.position(10);
+    MACAddresses.generateInto(mask, new SplittableRandom(1L), heap);
+    MACAddresses.generateInto(mask, new SplittableRandom(1L), direct);
+    assertFalse(heap.hasRemaining());
+    assertFalse(direct.hasRemaining());
+
+    for (int index = 0; index < 10; ++index) {
+      assertEquals(0L, heap.get(index));
+    }
+    for (int index = 10; index < 100; ++index) {
+      assertTrue(mask.contains(heap.get(index)));
+      assertEquals(direct.get(index - 10), heap.get(index));
+    }
+  }
+}
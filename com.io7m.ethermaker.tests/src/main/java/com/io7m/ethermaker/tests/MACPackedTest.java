@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACPacked;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACPackedTest
+{
+  @Test
+  public void packOK()
+  {
+    final var addr = MACAddresses.parse("00:10:20:30:40:50");
+    final var packed = MACPacked.pack(addr);
+    assertEquals(0x00_10_20_30_40_50L, packed);
+    assertEquals(0x001020, MACPacked.organization(packed));
+    assertEquals(0x304050, MACPacked.nic(packed));
+    assertEquals(0x00, MACPacked.octet(packed, 0));
+    assertEquals(0x50, MACPacked.octet(packed, 5));
+    assertEquals(addr, MACPacked.unpack(packed));
+    assertTrue(MACPacked.isValid(packed));
+  }
+
+  @Test
+  public void ofMasksOctets()
+  {
+    assertEquals(
+      0xff_01_02_03_04_05L,
+      MACPacked.of(0x1ff, 1, 2, 3, 4, 0x305)
+    );
+  }
+
+  @Test
+  public void isValid()
+  {
+    assertTrue(MACPacked.isValid(MACPacked.BROADCAST));
+    assertFalse(MACPacked.isValid(MACPacked.BROADCAST + 1L));
+    assertFalse(MACPacked.isValid(-1L));
+  }
+
+  @Test
+  public void predicatesAgree()
+    throws Exception
+  {
+    final SecureRandom rng = SecureRandom.getInstanceStrong();
+    for (int index = 0; index < 1000; ++index) {
+      final var address = MACAddresses.generate(Optional.empty(), rng);
+      final var packed = MACPacked.pack(address);
+      assertEquals(address, MACPacked.unpack(packed));
+      assertEquals(
+        Boolean.valueOf(address.isMulticast()),
+        Boolean.valueOf(MACPacked.isMulticast(packed)));
+      assertEquals(
+        Boolean.valueOf(address.isLocallyAdministered()),
+        Boolean.valueOf(MACPacked.isLocallyAdministered(packed)));
+      assertEquals(
+        Boolean.valueOf(address.isBroadcast()),
+        Boolean.valueOf(MACPacked.isBroadcast(packed)));
+
+      assertEquals(
+        MACPacked.pack(MACAddresses.asMulticast(address)),
+        MACPacked.asMulticast(packed));
+      assertEquals(
+        MACPacked.pack(MACAddresses.asUnicast(address)),
+        MACPacked.asUnicast(packed));
+      assertEquals(
+        MACPacked.pack(MACAddresses.asLocallyAdministered(address)),
+        MACPacked.asLocallyAdministered(packed));
+      assertEquals(
+        MACPacked.pack(MACAddresses.asOUIEnforced(address)),
+        MACPacked.asOUIEnforced(packed));
+    }
+  }
+
+  @Test
+  public void broadcast()
+  {
+    final var addr = MACAddresses.parse("ff:ff:ff:ff:ff:ff");
+    final var packed = MACPacked.pack(addr);
+    assertEquals(MACPacked.BROADCAST, packed);
+    assertTrue(MACPacked.isBroadcast(packed));
+    assertTrue(MACPacked.isMulticast(packed));
+    assertTrue(MACPacked.isLocallyAdministered(packed));
+  }
+}
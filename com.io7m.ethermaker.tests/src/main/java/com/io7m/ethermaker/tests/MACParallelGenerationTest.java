@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressBitmapSet;
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACAddressSetType;
+import com.io7m.ethermaker.core.MACMask;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACParallelGeneration;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACParallelGenerationTest
+{
+  private static long[] generate(
+    final MACMask mask,
+    final MACAddressSetType output,
+    final int parallelism,
+    final long count)
+  {
+    try (var pool = new ForkJoinPool(parallelism)) {
+      MACParallelGeneration.generateInto(
+        mask,
+        new SplittableRandom(0x5eedL),
+        pool,
+        output,
+        count
+      );
+    }
+
+    final var builder = LongStream.builder();
+    output.forEach(builder::add);
+    return builder.build().toArray();
+  }
+
+  @Test
+  public void independentOfParallelism()
+  {
+    final var mask = MACMasks.unicast(MACMasks.unconstrained());
+    final var count = 100_000L;
+    final var expected =
+      generate(mask, MACAddressHashSet.create(count), 1, count);
+
+    assertEquals(count, expected.length);
+    for (final var address : expected) {
+      assertTrue(mask.contains(address));
+    }
+
+    for (final var parallelism : new int[]{2, 3, 8}) {
+      assertArrayEquals(
+        expected,
+        generate(mask, MACAddressHashSet.create(count), parallelism, count)
+      );
+    }
+  }
+
+  @Test
+  public void denseOrganization()
+  {
+    final var organization = 0x00_10_20_00_00_00L;
+    final var mask = MACMasks.organization(organization);
+    final var count = (1L << 24) - 1000L;
+
+    final var expected =
+      generate(mask, MACAddressBitmapSet.create(organization), 1, count);
+    assertEquals(count, expected.length);
+    assertArrayEquals(
+      expected,
+      generate(mask, MACAddressBitmapSet.create(organization), 4, count)
+    );
+  }
+
+  @Test
+  public void tooMany()
+  {
+    final var mask = MACMasks.unconstrained().withFixed(0xffff_ffff_ff00L, 0L);
+    assertThrows(RangeCheckException.class, () -> {
+      generate(mask, MACAddressHashSet.create(16L), 2, 257L);
+    });
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddressHashSet;
+import com.io7m.ethermaker.core.MACMask;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPacked;
+import com.io7m.ethermaker.core.MACPermutation;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACPermutationTest
+{
+  private static void checkBijective(
+    final MACPermutation permutation)
+  {
+    final var mask = permutation.mask();
+    final var seen = MACAddressHashSet.create(permutation.size());
+    for (long index = 0L; index < permutation.size(); ++index) {
+      final var address = permutation.address(index);
+      assertTrue(mask.contains(address));
+      assertFalse(MACPacked.isBroadcast(address));
+      assertTrue(seen.add(address));
+    }
+    assertEquals(permutation.size(), seen.size());
+  }
+
+  @Test
+  public void bijectiveContiguous()
+  {
+    final var mask =
+      MACMask.builder()
+        .setFreeBits(0xfffL)
+        .setFixedBits(0x00_10_20_30_40_00L & ~0xfffL)
+        .build();
+
+    final var permutation = MACPermutation.create(mask, 0x1234L);
+    assertEquals(4096L, permutation.size());
+    checkBijective(permutation);
+  }
+
+  @Test
+  public void bijectiveScatteredOddBits()
+  {
+    final var mask =
+      MACMask.builder()
+        .setFreeBits(0x01_00_80_00_3c_1aL)
+        .setFixedBits(0x00_10_00_30_00_00L)
+        .build();
+
+    final var permutation = MACPermutation.create(mask, -1L);
+    assertEquals(512L, permutation.size());
+    checkBijective(permutation);
+  }
+
+  @Test
+  public void bijectiveExcludesBroadcast()
+  {
+    final var mask =
+      MACMask.builder()
+        .setFreeBits(0x3ffL)
+        .setFixedBits(MACPacked.BROADCAST & ~0x3ffL)
+        .build();
+
+    final var permutation = MACPermutation.create(mask, 23L);
+    assertEquals(1023L, permutation.size());
+    checkBijective(permutation);
+  }
+
+  @Test
+  public void singleAddress()
+  {
+    final var mask =
+      MACMasks.unconstrained()
+        .withFixed(MACPacked.ADDRESS_MASK, 0x00_10_20_30_40_50L);
+
+    final var permutation = MACPermutation.create(mask, 23L);
+    assertEquals(1L, permutation.size());
+    assertEquals(0x00_10_20_30_40_50L, permutation.address(0L));
+  }
+
+  @Test
+  public void onlyBroadcastRejected()
+  {
+    final var mask =
+      MACMasks.unconstrained()
+        .withFixed(MACPacked.ADDRESS_MASK, MACPacked.BROADCAST);
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACPermutation.create(mask, 23L);
+    });
+  }
+
+  @Test
+  public void resumable()
+  {
+    final var mask =
+      MACMasks.unicast(MACMasks.organization(0xc4_19_d1_00_00_00L));
+    final var permutation = MACPermutation.create(mask, 0xcafeL);
+
+    final var all = new long[100];
+    permutation.addressesInto(0L, all, 0, 100);
+
+    final var tail = new long[100];
+    permutation.addressesInto(40L, tail, 40, 60);
+    for (int index = 0; index < 40; ++index) {
+      tail[index] = permutation.address(index);
+    }
+    assertArrayEquals(all, tail);
+  }
+
+  @Test
+  public void keysDiffer()
+  {
+    final var mask = MACMasks.unicast(MACMasks.unconstrained());
+    final var p0 = MACPermutation.create(mask, 0L);
+    final var p1 = MACPermutation.create(mask, 1L);
+
+    assertEquals(1L << 47, p0.size());
+    assertNotEquals(p0.address(0L), p1.address(0L));
+    assertEquals(p0.address(0L), MACPermutation.create(mask, 0L).address(0L));
+  }
+
+  @Test
+  public void outOfRange()
+  {
+    final var mask = MACMasks.organization(0xc4_19_d1_00_00_00L);
+    final var permutation = MACPermutation.create(mask, 0L);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      permutation.address(permutation.size());
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      permutation.address(-1L);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      permutation.addressesInto(permutation.size() - 1L, new long[2], 0, 2);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      permutation.addressesInto(Long.MAX_VALUE, new long[1], 0, 1);
+    });
+  }
+}
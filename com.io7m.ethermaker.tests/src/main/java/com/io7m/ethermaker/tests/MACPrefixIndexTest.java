@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACPrefixIndex;
+import com.io7m.ethermaker.core.MACRegistry;
+import com.io7m.ethermaker.core.MACRegistryWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MACPrefixIndexTest
+{
+  @Test
+  public void nested()
+  {
+    final var registry = MACRegistry.fromBuffer(
+      MACRegistryWriter.create()
+        .add(0x70_b3_d5_00_00_00L, 24, "IEEE Registration Authority")
+        .add(0x70_b3_d5_10_00_00L, 28, "Medium Block")
+        .add(0x70_b3_d5_12_30_00L, 36, "Small Block")
+        .add(0x8c_1f_64_12_30_00L, 36, "Orphan Small Block")
+        .toBuffer()
+    );
+    final var index = MACPrefixIndex.create(registry);
+
+    assertEquals(
+      Optional.of("Small Block"),
+      index.vendorOf(0x70_b3_d5_12_3f_ffL));
+    assertEquals(
+      Optional.of("Medium Block"),
+      index.vendorOf(0x70_b3_d5_12_40_00L));
+    assertEquals(
+      Optional.of("IEEE Registration Authority"),
+      index.vendorOf(0x70_b3_d5_20_00_00L));
+    assertEquals(
+      Optional.of("Orphan Small Block"),
+      index.vendorOf(0x8c_1f_64_12_30_01L));
+    assertEquals(
+      Optional.empty(),
+      index.vendorOf(0x8c_1f_64_12_40_01L));
+    assertEquals(
+      Optional.empty(),
+      index.vendorOf(0x70_b3_d6_00_00_00L));
+  }
+
+  @Test
+  public void agreesWithRegistry()
+  {
+    final var rng = new SplittableRandom(0x1234L);
+    final var writer = MACRegistryWriter.create();
+
+    /*
+     * Concentrate the OUIs in a small range so that many share their top
+     * 16 bits, and nest longer blocks inside some of them.
+     */
+
+    for (int index = 0; index < 20_000; ++index) {
+      final var oui = 0x00_10_00L | rng.nextLong(0x4000L);
+      final var base = oui << 24;
+      writer.tryAdd(base, 24, "L" + oui);
+      if (rng.nextInt(16) == 0) {
+        final var nibble = rng.nextLong(16L) << 20;
+        writer.tryAdd(base | nibble, 28, "M" + oui);
+      }
+      if (rng.nextInt(16) == 0) {
+        final var small = rng.nextLong(4096L) << 12;
+        writer.tryAdd(base | small, 36, "S" + oui);
+      }
+    }
+
+    final var registry = MACRegistry.fromBuffer(writer.toBuffer());
+    final var index = MACPrefixIndex.create(registry);
+
+    for (int block = 0; block < registry.blockCount(); ++block) {
+      final var base = registry.blockBase(block);
+      assertEquals(registry.lookup(base), index.lookup(base));
+    }
+    for (int count = 0; count < 200_000; ++count) {
+      final var address = (0x00_10_00L << 24) | rng.nextLong(0x40_0000_0000L);
+      assertEquals(registry.lookup(address), index.lookup(address));
+    }
+  }
+
+  @Test
+  public void unsupportedPrefixLength()
+  {
+    final var registry = MACRegistry.fromBuffer(
+      MACRegistryWriter.create()
+        .add(0x70_b3_00_00_00_00L, 16, "Too Short")
+        .toBuffer()
+    );
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACPrefixIndex.create(registry);
+    });
+  }
+}
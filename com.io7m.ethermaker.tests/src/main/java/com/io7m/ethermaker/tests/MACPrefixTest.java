@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACPrefix;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACPrefixTest
+{
+  @Test
+  public void basics()
+  {
+    final var prefix = MACPrefix.of(0x52_54_00_10_00_00L, 28);
+    assertEquals(1L << 20, prefix.size());
+    assertEquals(0x52_54_00_1f_ff_ffL, prefix.last());
+    assertEquals(0xff_ff_ff_f0_00_00L, prefix.prefixMask());
+    assertEquals(0x00_00_00_0f_ff_ffL, prefix.suffixMask());
+    assertTrue(prefix.contains(0x52_54_00_10_00_00L));
+    assertTrue(prefix.contains(0x52_54_00_1f_ff_ffL));
+    assertFalse(prefix.contains(0x52_54_00_20_00_00L));
+    assertFalse(prefix.contains(0x52_54_00_0f_ff_ffL));
+    assertEquals("52:54:00:10:00:00/28", prefix.toString());
+
+    final var mask = prefix.toMask();
+    assertEquals(20, mask.freeBitCount());
+    assertTrue(mask.contains(0x52_54_00_1a_bc_deL));
+  }
+
+  @Test
+  public void extremes()
+  {
+    final var all = MACPrefix.of(0L, 0);
+    assertEquals(1L << 48, all.size());
+    assertTrue(all.contains(0xff_ff_ff_ff_ff_ffL));
+
+    final var single = MACPrefix.of(0x00_10_20_30_40_50L, 48);
+    assertEquals(1L, single.size());
+    assertEquals(1L, single.stream(false).count());
+    assertTrue(single.contains(0x00_10_20_30_40_50L));
+    assertFalse(single.contains(0x00_10_20_30_40_51L));
+  }
+
+  @Test
+  public void invalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACPrefix.of(0x52_54_00_10_00_01L, 28);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      MACPrefix.of(0L, 49);
+    });
+    assertThrows(RangeCheckException.class, () -> {
+      MACPrefix.of(0L, -1);
+    });
+  }
+
+  @Test
+  public void spliteratorSplitsEvenly()
+  {
+    final var prefix = MACPrefix.of(0x52_54_00_10_00_00L, 28);
+    final var right = prefix.spliterator();
+    assertTrue(right.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+    assertTrue(right.hasCharacteristics(Spliterator.SORTED));
+    assertNull(right.getComparator());
+
+    final var left = right.trySplit();
+    assertNotNull(left);
+    assertEquals(prefix.size() / 2, left.estimateSize());
+    assertEquals(prefix.size() / 2, right.estimateSize());
+
+    final long[] first = new long[1];
+    assertTrue(left.tryAdvance((long x) -> first[0] = x));
+    assertEquals(prefix.base(), first[0]);
+    assertTrue(right.tryAdvance((long x) -> first[0] = x));
+    assertEquals(prefix.base() + prefix.size() / 2, first[0]);
+
+    final var single = MACPrefix.of(0L, 48).spliterator();
+    assertNull(single.trySplit());
+  }
+
+  @Test
+  public void streams()
+  {
+    final var prefix = MACPrefix.of(0x52_54_00_10_00_00L, 28);
+    assertEquals(prefix.size(), prefix.stream(true).count());
+    assertEquals(
+      prefix.stream(false).sum(),
+      prefix.stream(true).sum());
+    assertTrue(prefix.stream(true).allMatch(prefix::contains));
+    assertEquals(prefix.last(), prefix.stream(true).max().getAsLong());
+  }
+
+  @Test
+  public void parse()
+  {
+    assertEquals(
+      MACPrefix.of(0x52_54_00_10_00_00L, 28),
+      MACAddresses.parsePrefix("52:54:00:10:00:00/28"));
+    assertEquals(
+      MACPrefix.of(0x52_54_00_10_00_00L, 28),
+      MACAddresses.parsePrefix("5254.0010.0000/28"));
+    assertEquals(
+      MACPrefix.of(0xc4_19_d1_00_00_00L, 24),
+      MACAddresses.parsePrefix("C419D1"));
+    assertEquals(
+      MACPrefix.of(0L, 0),
+      MACAddresses.parsePrefix("00:00:00:00:00:00/0"));
+    assertEquals(
+      MACPrefix.of(0x00_10_20_30_40_50L, 48),
+      MACAddresses.parsePrefix("00-10-20-30-40-50/48"));
+  }
+
+  @Test
+  public void parseFailed()
+  {
+    for (final var text : new String[]{
+      "52:54:00:10:00:01/28",
+      "52:54:00:10:00:00/49",
+      "52:54:00:10:00:00/",
+      "52:54:00:10:00:00/100",
+      "52:54:00:10:00:00/2x",
+      "52:54:00:10:00/28",
+      "52:54:00:10:00:00",
+      "C419D",
+    }) {
+      assertThrows(IllegalArgumentException.class, () -> {
+        MACAddresses.parsePrefix(text);
+      }, text);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACRegistry;
+import com.io7m.ethermaker.core.MACRegistryCSV;
+import com.io7m.ethermaker.core.MACRegistryWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACRegistryCSVTest
+{
+  private static final String MA_L = """
+    Registry,Assignment,Organization Name,Organization Address
+    MA-L,005056,"VMware, Inc.",3401 Hillview Avenue PALO ALTO CA US 94304
+    MA-L,080030,NETWORK RESEARCH CORPORATION,2380 N. ROSE AVENUE OXNARD CA US
+    MA-L,080030,CERN,CH-1211 GENEVE  SUISSE/SWITZ  CH 1211
+
+    MA-L,70b3d5,IEEE Registration Authority,"445 Hoes Lane Piscataway NJ US"
+    """;
+
+  private static final String MA_M = """
+    Registry,Assignment,Organization Name,Organization Address
+    MA-M,70B3D51,"Example ""Medium"" Ltd","Line one
+    Line two"
+    """;
+
+  private static final String MA_S = """
+    Registry,Assignment,Organization Name,Organization Address
+    MA-S,70B3D5123,Example Small GmbH,Somewhere
+    """;
+
+  private static int read(
+    final String text,
+    final MACRegistryWriter writer)
+    throws IOException
+  {
+    return MACRegistryCSV.readInto(
+      new BufferedReader(new StringReader(text)),
+      "test.csv",
+      writer
+    );
+  }
+
+  @Test
+  public void readAll()
+    throws IOException
+  {
+    final var writer = MACRegistryWriter.create();
+    assertEquals(3, read(MA_L, writer));
+    assertEquals(1, read(MA_M, writer));
+    assertEquals(1, read(MA_S, writer));
+    assertEquals(0, read(MA_S, writer));
+
+    final var registry = MACRegistry.fromBuffer(writer.toBuffer());
+    assertEquals(5, registry.blockCount());
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      registry.vendorOf(0x00_50_56_00_00_01L));
+    assertEquals(
+      Optional.of("NETWORK RESEARCH CORPORATION"),
+      registry.vendorOf(0x08_00_30_00_00_01L));
+    assertEquals(
+      Optional.of("Example \"Medium\" Ltd"),
+      registry.vendorOf(0x70_b3_d5_1f_ff_ffL));
+    assertEquals(
+      Optional.of("Example Small GmbH"),
+      registry.vendorOf(0x70_b3_d5_12_34_56L));
+    assertEquals(
+      Optional.of("IEEE Registration Authority"),
+      registry.vendorOf(0x70_b3_d5_20_00_00L));
+  }
+
+  @Test
+  public void errors()
+  {
+    final var writer = MACRegistryWriter.create();
+
+    var ex = assertThrows(IOException.class, () -> {
+      read("MA-L,00505,x,y\n", writer);
+    });
+    assertTrue(ex.getMessage().startsWith("test.csv:1:"));
+
+    ex = assertThrows(IOException.class, () -> {
+      read("Registry,Assignment\nMA-X,005056,x,y\n", writer);
+    });
+    assertTrue(ex.getMessage().startsWith("test.csv:2:"));
+
+    assertThrows(IOException.class, () -> {
+      read("MA-L,00505g,x,y\n", writer);
+    });
+    assertThrows(IOException.class, () -> {
+      read("MA-L,005056\n", writer);
+    });
+    assertThrows(IOException.class, () -> {
+      read("MA-L,005056,\"x,y\n", writer);
+    });
+    assertEquals(0, writer.blockCount());
+  }
+
+  @Test
+  public void compileAndMap(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var input = directory.resolve("oui.csv");
+    Files.writeString(input, MA_L, StandardCharsets.UTF_8);
+
+    final var writer = MACRegistryWriter.create();
+    assertEquals(3, MACRegistryCSV.readInto(input, writer));
+
+    final var output = directory.resolve("registry.bin");
+    writer.writeTo(output);
+    assertFalse(Files.exists(directory.resolve("registry.bin.tmp")));
+
+    final var registry = MACRegistry.open(output);
+    assertEquals(3, registry.blockCount());
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      registry.vendorOf(0x00_50_56_00_00_01L));
+
+    MACRegistryWriter.create()
+      .add(0x00_0c_29_00_00_00L, 24, "VMware, Inc.")
+      .writeTo(output);
+
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      registry.vendorOf(0x00_50_56_00_00_01L));
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      MACRegistry.open(output).vendorOf(0x00_0c_29_00_00_01L));
+  }
+
+  @Test
+  public void openMalformed(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var file = directory.resolve("registry.bin");
+    Files.writeString(file, "not a registry", StandardCharsets.UTF_8);
+    assertThrows(IOException.class, () -> MACRegistry.open(file));
+  }
+}
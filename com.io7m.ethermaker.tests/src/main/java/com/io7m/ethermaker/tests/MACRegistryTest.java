@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACRegistry;
+import com.io7m.ethermaker.core.MACRegistryCSV;
+import com.io7m.ethermaker.core.MACRegistryWriter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MACRegistryTest
+{
+  private static MACRegistry example()
+  {
+    return MACRegistry.fromBuffer(
+      MACRegistryWriter.create()
+        .add(0x00_50_56_00_00_00L, 24, "VMware, Inc.")
+        .add(0x70_b3_d5_00_00_00L, 24, "IEEE Registration Authority")
+        .add(0x70_b3_d5_10_00_00L, 28, "Medium Block")
+        .add(0x70_b3_d5_12_30_00L, 36, "Small Block")
+        .add(0x00_0c_29_00_00_00L, 24, "VMware, Inc.")
+        .toBuffer()
+    );
+  }
+
+  @Test
+  public void builtin()
+  {
+    final var registry = MACRegistry.builtin();
+    assertSame(registry, MACRegistry.builtin());
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      registry.vendorOf(MACAddresses.parsePacked("00:50:56:01:02:03")));
+    assertEquals(
+      Optional.of("Raspberry Pi Foundation"),
+      registry.vendorOf(MACAddresses.parsePacked("b8:27:eb:00:00:01")));
+    assertEquals(
+      Optional.empty(),
+      registry.vendorOf(MACAddresses.parsePacked("02:00:00:00:00:01")));
+  }
+
+  @Test
+  public void builtinMatchesSource()
+    throws Exception
+  {
+    final var writer = MACRegistryWriter.create();
+    MACRegistryCSV.readInto(
+      Path.of("..", "com.io7m.ethermaker.core", "src", "main", "registry", "registry.csv"),
+      writer
+    );
+
+    final var expected = MACRegistry.fromBuffer(writer.toBuffer());
+    final var registry = MACRegistry.builtin();
+    assertEquals(expected.blockCount(), registry.blockCount());
+    assertEquals(expected.vendorCount(), registry.vendorCount());
+    for (int block = 0; block < expected.blockCount(); ++block) {
+      assertEquals(expected.blockBase(block), registry.blockBase(block));
+      assertEquals(
+        expected.blockPrefixBits(block),
+        registry.blockPrefixBits(block));
+      assertEquals(expected.blockVendor(block), registry.blockVendor(block));
+    }
+  }
+
+  @Test
+  public void mostSpecific()
+  {
+    final var registry = example();
+    assertEquals(5, registry.blockCount());
+    assertEquals(4, registry.vendorCount());
+
+    assertEquals(
+      Optional.of("Small Block"),
+      registry.vendorOf(0x70_b3_d5_12_3f_ffL));
+    assertEquals(
+      Optional.of("Medium Block"),
+      registry.vendorOf(0x70_b3_d5_12_40_00L));
+    assertEquals(
+      Optional.of("IEEE Registration Authority"),
+      registry.vendorOf(0x70_b3_d5_20_00_00L));
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      registry.vendorOf(0x00_0c_29_ff_ff_ffL));
+    assertEquals(
+      Optional.empty(),
+      registry.vendorOf(0x00_0c_2a_00_00_00L));
+
+    final var block = registry.lookup(0x70_b3_d5_12_30_01L);
+    assertEquals(36, registry.blockPrefixBits(block));
+    assertEquals(0x70_b3_d5_12_30_00L, registry.blockBase(block));
+    assertEquals("Small Block", registry.blockVendor(block));
+  }
+
+  @Test
+  public void allBlocks()
+  {
+    final var registry = example();
+    for (int block = 0; block < registry.blockCount(); ++block) {
+      assertEquals(block, registry.lookup(registry.blockBase(block)));
+    }
+  }
+
+  @Test
+  public void bufferPosition()
+  {
+    final var data = MACRegistryWriter.create()
+      .add(0x00_50_56_00_00_00L, 24, "VMware, Inc.")
+      .toBuffer();
+
+    final var shifted = ByteBuffer.allocate(data.capacity() + 3);
+    shifted.position(3);
+    shifted.put(data);
+    shifted.position(3);
+
+    assertEquals(
+      Optional.of("VMware, Inc."),
+      MACRegistry.fromBuffer(shifted).vendorOf(0x00_50_56_00_00_01L));
+  }
+
+  @Test
+  public void writerRejectsSuffixBits()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACRegistryWriter.create().add(0x00_50_56_00_00_01L, 24, "x");
+    });
+  }
+
+  @Test
+  public void writerRejectsDuplicates()
+  {
+    final var writer =
+      MACRegistryWriter.create().add(0x00_50_56_00_00_00L, 24, "x");
+    assertThrows(IllegalArgumentException.class, () -> {
+      writer.add(0x00_50_56_00_00_00L, 24, "y");
+    });
+  }
+
+  @Test
+  public void malformed()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACRegistry.fromBuffer(ByteBuffer.allocate(8));
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACRegistry.fromBuffer(ByteBuffer.allocate(64));
+    });
+
+    final var data = MACRegistryWriter.create()
+      .add(0x00_50_56_00_00_00L, 24, "VMware, Inc.")
+      .toBuffer();
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACRegistry.fromBuffer(data.limit(40));
+    });
+
+    final var version = MACRegistryWriter.create().toBuffer();
+    version.putInt(4, 2);
+    assertThrows(IllegalArgumentException.class, () -> {
+      MACRegistry.fromBuffer(version);
+    });
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.ethermaker.tests;
+
+import com.io7m.ethermaker.core.MACAddresses;
+import com.io7m.ethermaker.core.MACMasks;
+import com.io7m.ethermaker.core.MACPermutation;
+import com.io7m.ethermaker.core.MACTemplates;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MACTemplatesTest
+{
+  @Test
+  public void hexadecimal()
+  {
+    final var mask = MACTemplates.compile("52:54:00:XX:x?:??");
+    assertEquals(0x00_00_00_ff_ff_ffL, mask.freeBits());
+    assertEquals(0x52_54_00_00_00_00L, mask.fixedBits());
+    assertEquals(MACMasks.organization(0x52_54_00_00_00_00L), mask);
+  }
+
+  @Test
+  public void hexadecimalPartialOctet()
+  {
+    final var mask = MACTemplates.compile("52:54:00:1x:xx:xx");
+    assertEquals(0x00_00_00_0f_ff_ffL, mask.freeBits());
+    assertEquals(0x52_54_00_10_00_00L, mask.fixedBits());
+    assertEquals(1L << 20, mask.size());
+  }
+
+  @Test
+  public void mixedNibbles()
+  {
+    final var mask = MACTemplates.compile("52-54-00-07-x3-?a");
+    assertEquals(0x00_00_00_00_f0_f0L, mask.freeBits());
+    assertEquals(0x52_54_00_07_03_0aL, mask.fixedBits());
+    assertEquals(256L, mask.size());
+  }
+
+  @Test
+  public void binary()
+  {
+    final var mask = MACTemplates.compile("52:54:00:0000xxxx:00:1x?x01x0");
+    assertEquals(0x00_00_00_0f_00_72L, mask.freeBits());
+    assertEquals(0x52_54_00_00_00_84L, mask.fixedBits());
+    assertEquals(256L, mask.size());
+  }
+
+  @Test
+  public void fullyFixed()
+  {
+    final var mask = MACTemplates.compile("00:10:20:30:40:50");
+    assertEquals(0L, mask.freeBits());
+    assertEquals(0x00_10_20_30_40_50L, mask.fixedBits());
+    assertEquals(
+      0x00_10_20_30_40_50L,
+      MACAddresses.generatePacked(mask, new SplittableRandom(0L)));
+  }
+
+  @Test
+  public void generate()
+  {
+    final var mask = MACTemplates.compile("52:54:00:07:x?:??");
+    final var output = new long[1000];
+    MACAddresses.generateInto(mask, new SplittableRandom(0L), output, 0, 1000);
+    for (final var address : output) {
+      assertEquals(0x52_54_00_07_00_00L, address & 0xff_ff_ff_ff_00_00L);
+    }
+
+    final var permutation = MACPermutation.create(mask, 23L);
+    assertEquals(1L << 16, permutation.size());
+    assertTrue(mask.contains(permutation.address(12345L)));
+  }
+
+  @Test
+  public void invalid()
+  {
+    for (final var text : new String[]{
+      "",
+      "52:54:00:xx:xx",
+      "52:54:00:xx:xx:xx:xx",
+      "52:54:00:xx:xx:x",
+      "52:54:00:xx:xx:xxx",
+      "52:54:00-xx:xx:xx",
+      "52:54:00:xx:xx:xg",
+      "52:54:00:0000xxx2:00:00",
+      "52:54:00:xx:xx:xx ",
+    }) {
+      assertThrows(IllegalArgumentException.class, () -> {
+        MACTemplates.compile(text);
+      }, text);
+    }
+  }
+}